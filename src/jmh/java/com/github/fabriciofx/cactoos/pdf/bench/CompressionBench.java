@@ -0,0 +1,281 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.bench;
+
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.content.Compression;
+import com.github.fabriciofx.cactoos.pdf.content.Text;
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import com.github.fabriciofx.cactoos.pdf.resource.font.Helvetica;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import org.cactoos.text.FormattedText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compression benchmark.
+ *
+ * <p>Measures the time to encode the content stream of a page, as
+ * FlateEncode does, for some compression policies, over 2,000 pages.
+ * Streams are built beforehand, so only the compression is measured. The
+ * compression ratio of each policy is printed when its benchmark ends.
+ * Then it measures the time to compress all those pages as a single
+ * stream, serially and in chunks.
+ *
+ * @since 0.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBench {
+    /**
+     * Amount of pages.
+     */
+    private static final int PAGES = 2000;
+
+    /**
+     * Encode the content streams of all pages, reported per page.
+     *
+     * @param pages Pages and compression policy
+     * @return Amount of encoded bytes
+     */
+    @Benchmark
+    @OperationsPerInvocation(CompressionBench.PAGES)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long encode(final Pages pages) {
+        return CompressionBench.encoded(pages.streams, pages.compression);
+    }
+
+    /**
+     * Compress all pages as a single stream, serially.
+     *
+     * @param stream Single stream
+     * @return Amount of compressed bytes
+     */
+    @Benchmark
+    public int serial(final Stream stream) {
+        return new Compression().deflated(stream.bytes).length;
+    }
+
+    /**
+     * Compress all pages as a single stream, in chunks of 128 KB, in the
+     * executor of the stream.
+     *
+     * @param stream Single stream
+     * @return Amount of compressed bytes
+     */
+    @Benchmark
+    public int chunked(final Stream stream) {
+        return new Compression(
+            Deflater.DEFAULT_COMPRESSION,
+            stream.executor,
+            128 * 1024
+        ).deflated(stream.bytes).length;
+    }
+
+    /**
+     * Encode content streams, as FlateEncode does.
+     *
+     * @param streams Content streams
+     * @param compression Compression policy
+     * @return Amount of encoded bytes
+     */
+    static long encoded(
+        final byte[][] streams,
+        final Compression compression
+    ) {
+        long total = 0;
+        for (final byte[] page : streams) {
+            if (compression.worth(page.length)) {
+                total = total + compression.deflated(page).length;
+            } else {
+                total = total + page.length;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Content streams of the pages.
+     *
+     * @return The content streams
+     * @throws Exception if fails
+     */
+    static byte[][] contents() throws Exception {
+        final Id id = new Serial();
+        final Font font = new Helvetica(id, 12);
+        final byte[][] pages = new byte[CompressionBench.PAGES][];
+        for (int idx = 0; idx < pages.length; ++idx) {
+            pages[idx] = new Text(
+                id,
+                font,
+                20,
+                800,
+                80,
+                new FormattedText(
+                    "Page %d. %s",
+                    idx,
+                    "Lorem ipsum dolor sit amet, consectetur adipiscing "
+                        .repeat(20 + idx % 30)
+                )
+            ).asStream();
+        }
+        return pages;
+    }
+
+    /**
+     * Content streams of the pages and the compression policy.
+     *
+     * @since 0.0.1
+     */
+    @State(Scope.Benchmark)
+    @SuppressWarnings("PMD.ImmutableField")
+    public static class Pages {
+        /**
+         * Compression policy name.
+         */
+        @Param({"default", "speed", "best", "huffman", "filtered", "min2k"})
+        String policy;
+
+        /**
+         * Content streams of the pages.
+         */
+        byte[][] streams;
+
+        /**
+         * Compression policy.
+         */
+        Compression compression;
+
+        /**
+         * Build the pages and the compression policy.
+         *
+         * @throws Exception if fails
+         */
+        @Setup
+        public void setup() throws Exception {
+            this.streams = CompressionBench.contents();
+            switch (this.policy) {
+                case "speed":
+                    this.compression = new Compression(Deflater.BEST_SPEED);
+                    break;
+                case "best":
+                    this.compression = new Compression(
+                        Deflater.BEST_COMPRESSION
+                    );
+                    break;
+                case "huffman":
+                    this.compression = new Compression(
+                        Deflater.DEFAULT_COMPRESSION,
+                        Deflater.HUFFMAN_ONLY,
+                        0
+                    );
+                    break;
+                case "filtered":
+                    this.compression = new Compression(
+                        Deflater.DEFAULT_COMPRESSION,
+                        Deflater.FILTERED,
+                        0
+                    );
+                    break;
+                case "min2k":
+                    this.compression = new Compression(
+                        Deflater.DEFAULT_COMPRESSION,
+                        Deflater.DEFAULT_STRATEGY,
+                        2048
+                    );
+                    break;
+                default:
+                    this.compression = new Compression();
+                    break;
+            }
+        }
+
+        /**
+         * Print the compression ratio of the policy: encoded bytes by
+         * plain bytes.
+         */
+        @TearDown
+        public void teardown() {
+            long plain = 0;
+            for (final byte[] page : this.streams) {
+                plain = plain + page.length;
+            }
+            final long encoded = CompressionBench.encoded(
+                this.streams,
+                this.compression
+            );
+            System.out.printf(
+                "%n%s: %d bytes encoded to %d, ratio %.3f%n",
+                this.policy,
+                plain,
+                encoded,
+                (double) encoded / plain
+            );
+        }
+    }
+
+    /**
+     * Content streams of all pages as a single stream, and the executor
+     * that compresses its chunks.
+     *
+     * @since 0.0.1
+     */
+    @State(Scope.Benchmark)
+    public static class Stream {
+        /**
+         * Stream bytes.
+         */
+        byte[] bytes;
+
+        /**
+         * Executor that compresses the chunks.
+         */
+        ExecutorService executor;
+
+        /**
+         * Join the content streams of the pages and start the executor.
+         *
+         * @throws Exception if fails
+         */
+        @Setup
+        public void setup() throws Exception {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (final byte[] page : CompressionBench.contents()) {
+                out.write(page, 0, page.length);
+            }
+            this.bytes = out.toByteArray();
+            this.executor = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors()
+            );
+        }
+
+        /**
+         * Stop the executor.
+         */
+        @TearDown
+        public void teardown() {
+            this.executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.bench;
+
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import com.github.fabriciofx.cactoos.pdf.type.Text;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.text.FormattedText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dictionary benchmark.
+ *
+ * <p>Measures building a font map (as in resource-heavy pages) with 10 to
+ * 10,000 entries, adding them one by one and merging one resource at a
+ * time, as Resources does.
+ *
+ * @since 0.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@SuppressWarnings("PMD.ImmutableField")
+public class DictionaryBench {
+    /**
+     * Amount of entries.
+     */
+    @Param({"10", "100", "1000", "10000"})
+    int size;
+
+    /**
+     * Build a font map adding one entry at a time.
+     *
+     * @return The font map
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public Dictionary add() throws Exception {
+        Dictionary fonts = new Dictionary();
+        for (int idx = 0; idx < this.size; ++idx) {
+            fonts = fonts.add(
+                new FormattedText("F%d", idx).asString(),
+                new Text(new FormattedText("%d 0 R", idx + 1).asString())
+            );
+        }
+        return fonts;
+    }
+
+    /**
+     * Build resources merging one font resource at a time.
+     *
+     * @return The resources
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public Dictionary merge() throws Exception {
+        Dictionary resources = new Dictionary().add("Font", new Dictionary());
+        for (int idx = 0; idx < this.size; ++idx) {
+            resources = resources.merge(
+                new Dictionary().add(
+                    "Font",
+                    new Dictionary().add(
+                        new FormattedText("F%d", idx).asString(),
+                        new Text(
+                            new FormattedText("%d 0 R", idx + 1).asString()
+                        )
+                    )
+                )
+            );
+        }
+        return resources;
+    }
+}
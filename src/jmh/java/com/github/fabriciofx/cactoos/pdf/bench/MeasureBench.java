@@ -0,0 +1,167 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.bench;
+
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Widths;
+import com.github.fabriciofx.cactoos.pdf.resource.font.Face;
+import com.github.fabriciofx.cactoos.pdf.resource.font.Helvetica;
+import com.github.fabriciofx.cactoos.pdf.resource.font.WidthCache;
+import com.github.fabriciofx.cactoos.pdf.text.Wrapped;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure benchmark.
+ *
+ * <p>Measures the time to measure the labels of an invoice, and to wrap
+ * a paragraph which repeats its words, with the metrics of a face and
+ * with a font of that face, which keeps the widths of the words it
+ * measured last. The hits of the cache of the face are printed when the
+ * benchmark ends.
+ *
+ * @since 0.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MeasureBench {
+    /**
+     * Labels measured.
+     */
+    private static final String[] LABELS = {
+        "Total", "Amount due", "Subtotal", "Tax", "Quantity",
+        "Unit price", "SKU-000123-BLK", "SKU-004567-WHT", "Invoice",
+        "Description of the item sold",
+    };
+
+    /**
+     * Paragraph wrapped, its words measured as parts of it.
+     */
+    private static final String PARAGRAPH = String.join(
+        " ",
+        "The total amount due is the subtotal of the items sold plus the tax",
+        "of each item, and the total of the invoice is the amount due less",
+        "the amount paid, so the total is due when the invoice is sent and",
+        "the tax of the items is paid with the total of the invoice."
+    );
+
+    /**
+     * Width of the lines of the paragraph, in thousandths of the font size.
+     */
+    private static final double WIDTH = 30_000;
+
+    /**
+     * Metrics of the face.
+     */
+    private Widths metrics;
+
+    /**
+     * Font of the face.
+     */
+    private Font font;
+
+    /**
+     * Build the font.
+     */
+    @Setup
+    public void setup() {
+        this.metrics = Face.HELVETICA.metrics();
+        this.font = new Helvetica(1, 0, 12);
+    }
+
+    /**
+     * Print the hit rate of the cache of the face.
+     */
+    @TearDown
+    public void teardown() {
+        final WidthCache cache = Face.HELVETICA.widths();
+        System.out.printf(
+            "%nhits: %d, misses: %d%n",
+            cache.hits(),
+            cache.misses()
+        );
+    }
+
+    /**
+     * Measure the labels with the metrics.
+     *
+     * @return Sum of the widths
+     */
+    @Benchmark
+    public long measured() {
+        return MeasureBench.measure(this.metrics);
+    }
+
+    /**
+     * Measure the labels with the font.
+     *
+     * @return Sum of the widths
+     */
+    @Benchmark
+    public long cached() {
+        return MeasureBench.measure(this.font);
+    }
+
+    /**
+     * Wrap the paragraph with the metrics.
+     *
+     * @return Amount of lines
+     */
+    @Benchmark
+    public int wrapMeasured() {
+        return MeasureBench.wrap(this.metrics);
+    }
+
+    /**
+     * Wrap the paragraph with the font.
+     *
+     * @return Amount of lines
+     */
+    @Benchmark
+    public int wrapCached() {
+        return MeasureBench.wrap(this.font);
+    }
+
+    /**
+     * Wrap the paragraph.
+     *
+     * @param widths Widths
+     * @return Amount of lines
+     */
+    private static int wrap(final Widths widths) {
+        return new ListOf<>(
+            new Wrapped(MeasureBench.PARAGRAPH, widths, MeasureBench.WIDTH)
+        ).size();
+    }
+
+    /**
+     * Measure all labels.
+     *
+     * @param widths Widths
+     * @return Sum of the widths
+     */
+    private static long measure(final Widths widths) {
+        long sum = 0;
+        for (final String label : MeasureBench.LABELS) {
+            sum = sum + widths.width(label, 0, label.length());
+        }
+        return sum;
+    }
+}
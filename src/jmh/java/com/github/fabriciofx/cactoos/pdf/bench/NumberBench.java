@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.bench;
+
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.text.FormattedText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Number formatting benchmark.
+ *
+ * <p>Measures the throughput of writing a text position operator
+ * ("x y Td") with FormattedText and with a {@link Sink}.
+ *
+ * @since 0.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@SuppressWarnings("PMD.ImmutableField")
+public class NumberBench {
+    /**
+     * Position X, not a constant, so it is not folded.
+     */
+    private double posx = 12.75;
+
+    /**
+     * Position Y, not a constant, so it is not folded.
+     */
+    private double posy = 841.89;
+
+    /**
+     * Reused sink.
+     */
+    private final Sink sink = new ByteSink();
+
+    /**
+     * Write the operator with FormattedText.
+     *
+     * @return Amount of written bytes
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public int formatted() throws Exception {
+        return new FormattedText(
+            "%.2f %.2f Td\n",
+            Locale.ENGLISH,
+            this.posx,
+            this.posy
+        ).asString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Write the operator into the reused sink.
+     *
+     * @return Amount of written bytes
+     */
+    @Benchmark
+    public int sink() {
+        return this.sink.truncate(0)
+            .append(this.posx, 2)
+            .append((byte) ' ')
+            .append(this.posy, 2)
+            .append(" Td\n")
+            .size();
+    }
+}
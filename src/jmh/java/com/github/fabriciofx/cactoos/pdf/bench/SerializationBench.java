@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.bench;
+
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
+import com.github.fabriciofx.cactoos.pdf.type.Array;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import com.github.fabriciofx.cactoos.pdf.type.Int;
+import com.github.fabriciofx.cactoos.pdf.type.Name;
+import com.github.fabriciofx.cactoos.pdf.type.Real;
+import com.github.fabriciofx.cactoos.pdf.type.Text;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization benchmark.
+ *
+ * <p>Measures the time to serialize a page indirect with
+ * {@link Indirect#asBytes()} and into a reused {@link Sink}, as the
+ * cross-reference writers do. Run it with the gc profiler to see the
+ * allocated bytes per object too.
+ *
+ * @since 0.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SerializationBench {
+    /**
+     * Page indirect.
+     */
+    private final Indirect indirect = new DefaultIndirect(
+        4,
+        0,
+        new Dictionary()
+            .add("Type", new Name("Page"))
+            .add("Resources", new Text("5 0 R"))
+            .add("Contents", new Text("7 0 R"))
+            .add(
+                "MediaBox",
+                new Array(
+                    new Int(0),
+                    new Int(0),
+                    new Real(595.28),
+                    new Real(841.89)
+                )
+            )
+            .add("Parent", new Text("3 0 R"))
+    );
+
+    /**
+     * Reused sink.
+     */
+    private final Sink sink = new ByteSink();
+
+    /**
+     * Serialize the indirect into a new byte array.
+     *
+     * @return The serialized bytes
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public byte[] asBytes() throws Exception {
+        return this.indirect.asBytes();
+    }
+
+    /**
+     * Serialize the indirect into the reused sink.
+     *
+     * @return Amount of serialized bytes
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public int writeTo() throws Exception {
+        this.sink.truncate(0);
+        this.indirect.writeTo(this.sink);
+        return this.sink.size();
+    }
+}
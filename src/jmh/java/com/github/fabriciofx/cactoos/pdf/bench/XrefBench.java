@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.bench;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import com.github.fabriciofx.cactoos.pdf.type.Int;
+import com.github.fabriciofx.cactoos.pdf.xref.XrefTable;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cross-reference table benchmark.
+ *
+ * <p>Measures the time to write some objects and their cross-reference
+ * table. The time per object is the score divided by the amount of
+ * objects, and should stay flat as the amount grows ten times.
+ *
+ * @since 0.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XrefBench {
+    /**
+     * Amount of objects.
+     */
+    @Param({"10000", "100000"})
+    int size;
+
+    /**
+     * Write the objects and the cross-reference table.
+     *
+     * @return Amount of objects written
+     * @throws Exception if fails
+     */
+    @Benchmark
+    public int write() throws Exception {
+        final Id id = new Serial();
+        final XrefTable xref = new XrefTable(
+            id,
+            OutputStream.nullOutputStream(),
+            0
+        );
+        for (int idx = 0; idx < this.size; ++idx) {
+            xref.add(
+                new DefaultIndirect(
+                    id.increment(),
+                    0,
+                    new Dictionary().add("Count", new Int(idx))
+                )
+            );
+        }
+        xref.finish(new Reference(1, 0), new Reference(1, 0));
+        return this.size;
+    }
+}
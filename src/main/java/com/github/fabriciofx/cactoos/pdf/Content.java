@@ -12,7 +12,7 @@ import java.util.List;
  * @since 0.0.1
  */
 @SuppressWarnings("PMD.ExtendsObject")
-public interface Content extends Object {
+public interface Content extends Object, Referenced {
     /**
      * Stream of a content.
      *
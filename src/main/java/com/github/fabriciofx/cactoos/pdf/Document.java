@@ -6,17 +6,30 @@ package com.github.fabriciofx.cactoos.pdf;
 
 import com.github.fabriciofx.cactoos.pdf.object.Catalog;
 import com.github.fabriciofx.cactoos.pdf.object.Information;
+import com.github.fabriciofx.cactoos.pdf.xref.Classic;
+import com.github.fabriciofx.cactoos.pdf.xref.Compressed;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.Locale;
 import org.cactoos.Bytes;
-import org.cactoos.list.ListOf;
 import org.cactoos.text.FormattedText;
 
 /**
  * Document.
  *
+ * <p>The document can be built in memory, using {@link #asBytes()}, or
+ * streamed to an {@link OutputStream} or a {@link WritableByteChannel},
+ * using {@link #writeTo(OutputStream)}. When streamed, each indirect object
+ * is written as soon as it is printed and then released, so the memory
+ * used is bounded by the largest object instead of the whole document.
+ *
+ * <p>By default, the document uses the {@link Classic} file structure. Use
+ * the {@link Compressed} one to pack small objects into object streams and
+ * write a cross-reference stream.
+ *
  * @since 0.0.1
  */
 public final class Document implements Bytes {
@@ -30,6 +43,11 @@ public final class Document implements Bytes {
      */
     private final Id id;
 
+    /**
+     * File structure.
+     */
+    private final Structure structure;
+
     /**
      * PDF metadata.
      */
@@ -86,8 +104,56 @@ public final class Document implements Bytes {
         final Id id,
         final Information information,
         final Catalog catalog
+    ) {
+        this(id, new Classic(), information, catalog);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param structure File structure
+     * @param pages Pages
+     */
+    public Document(final Id id, final Structure structure, final Pages pages) {
+        this(id, structure, new Information(id), new Catalog(id, pages));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param structure File structure
+     * @param information Metadata
+     * @param pages Pages
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Document(
+        final Id id,
+        final Structure structure,
+        final Information information,
+        final Pages pages
+    ) {
+        this(id, structure, information, new Catalog(id, pages));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param structure File structure
+     * @param information Metadata
+     * @param catalog Catalog
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Document(
+        final Id id,
+        final Structure structure,
+        final Information information,
+        final Catalog catalog
     ) {
         this.id = id;
+        this.structure = structure;
         this.information = information;
         this.catalog = catalog;
     }
@@ -95,25 +161,40 @@ public final class Document implements Bytes {
     @Override
     public byte[] asBytes() throws Exception {
         final ByteArrayOutputStream output = new ByteArrayOutputStream();
-        final List<Indirect> indirects = new ListOf<>();
-        this.information.print(indirects);
-        this.catalog.print(indirects);
-        final Header header = new Header();
-        output.write(header.asBytes());
-        for (final Indirect indirect : indirects) {
-            output.write(indirect.asBytes());
-        }
-        output.write(
-            new XrefTable(
-                this.id,
-                this.information,
-                this.catalog,
-                header,
-                indirects
-            ).asBytes()
+        this.writeTo(output);
+        return output.toByteArray();
+    }
+
+    /**
+     * Write the document into a channel.
+     *
+     * @param channel Channel where the document will be written
+     * @throws Exception if fails
+     */
+    public void writeTo(final WritableByteChannel channel) throws Exception {
+        this.writeTo(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Write the document into an output stream.
+     *
+     * <p>The output stream is not closed.
+     *
+     * @param output Output stream where the document will be written
+     * @throws Exception if fails
+     */
+    public void writeTo(final OutputStream output) throws Exception {
+        final byte[] header = new Header(this.structure.version()).asBytes();
+        output.write(header);
+        final Xref xref = this.structure.xref(this.id, output, header.length);
+        this.information.print(xref);
+        this.catalog.print(xref);
+        xref.finish(
+            this.catalog.reference(),
+            this.information.reference()
         );
         output.write(Document.EOF.getBytes(StandardCharsets.UTF_8));
-        return output.toByteArray();
+        output.flush();
     }
 
     /**
@@ -122,11 +203,6 @@ public final class Document implements Bytes {
      * @since 0.0.1
      */
     private static final class Header implements Bytes {
-        /**
-         * PDF Version.
-         */
-        private static final String VERSION = "1.3";
-
         /**
          * PDF binary file signature.
          */
@@ -136,74 +212,18 @@ public final class Document implements Bytes {
             (byte) 0xc4, (byte) 0xc6, (byte) 0x0a,
         };
 
-        @Override
-        public byte[] asBytes() throws Exception {
-            final ByteArrayOutputStream out = new ByteArrayOutputStream();
-            out.write(
-                new FormattedText(
-                    "%%PDF-%s\n",
-                    Locale.ENGLISH,
-                    Header.VERSION
-                ).asString().getBytes(StandardCharsets.UTF_8)
-            );
-            out.write(Header.SIGNATURE);
-            return out.toByteArray();
-        }
-    }
-
-    /**
-     * PDF Cross-Reference Table.
-     *
-     * @since 0.0.1
-     */
-    private static final class XrefTable implements Bytes {
         /**
-         * Object Id.
-         */
-        private final Id id;
-
-        /**
-         * Information.
-         */
-        private final Information information;
-
-        /**
-         * Catalog.
-         */
-        private final Catalog catalog;
-
-        /**
-         * Header.
-         */
-        private final Header header;
-
-        /**
-         * Indirects.
+         * PDF Version.
          */
-        private final List<Indirect> indirects;
+        private final String version;
 
         /**
          * Ctor.
          *
-         * @param id Object id
-         * @param information Information
-         * @param catalog Catalog
-         * @param header Document header
-         * @param indirects Indirects list
-         * @checkstyle ParameterNumberCheck (10 lines)
+         * @param version PDF version
          */
-        XrefTable(
-            final Id id,
-            final Information information,
-            final Catalog catalog,
-            final Header header,
-            final List<Indirect> indirects
-        ) {
-            this.id = id;
-            this.information = information;
-            this.catalog = catalog;
-            this.header = header;
-            this.indirects = indirects;
+        Header(final String version) {
+            this.version = version;
         }
 
         @Override
@@ -211,93 +231,13 @@ public final class Document implements Bytes {
             final ByteArrayOutputStream out = new ByteArrayOutputStream();
             out.write(
                 new FormattedText(
-                    "xref\n0 %d\n0000000000 65535 f\n",
-                    Locale.ENGLISH,
-                    this.id.value()
-                ).asString().getBytes(StandardCharsets.UTF_8)
-            );
-            int total = this.header.asBytes().length;
-            final int[] table = new int[this.id.value() - 1];
-            for (int idx = 0; idx < this.indirects.size(); ++idx) {
-                final int number = this.indirects.get(idx).reference()
-                    .number() - 1;
-                total = total + this.indirects.get(idx).asBytes().length;
-                int sum = this.header.asBytes().length;
-                for (int count = 0; count < idx; ++count) {
-                    sum = sum + this.indirects.get(count).asBytes().length;
-                }
-                table[number] = sum;
-            }
-            for (final int value : table) {
-                out.write(
-                    new FormattedText(
-                        "%010d 00000 n\n",
-                        Locale.ENGLISH,
-                        value
-                    ).asString().getBytes(StandardCharsets.UTF_8)
-                );
-            }
-            out.write(
-                new Trailer(this.id, this.information, this.catalog).asBytes()
-            );
-            out.write(
-                new FormattedText(
-                    "startxref\n%d\n",
+                    "%%PDF-%s\n",
                     Locale.ENGLISH,
-                    total
+                    this.version
                 ).asString().getBytes(StandardCharsets.UTF_8)
             );
+            out.write(Header.SIGNATURE);
             return out.toByteArray();
         }
     }
-
-    /**
-     * PDF Trailer.
-     *
-     * @since 0.0.1
-     */
-    private static final class Trailer implements Bytes {
-        /**
-         * Object Id.
-         */
-        private final Id id;
-
-        /**
-         * Information.
-         */
-        private final Information information;
-
-        /**
-         * Catalog.
-         */
-        private final Catalog catalog;
-
-        /**
-         * Ctor.
-         *
-         * @param id Object id
-         * @param information Information
-         * @param catalog Catalog
-         */
-        Trailer(
-            final Id id,
-            final Information information,
-            final Catalog catalog
-        ) {
-            this.id = id;
-            this.information = information;
-            this.catalog = catalog;
-        }
-
-        @Override
-        public byte[] asBytes() throws Exception {
-            return new FormattedText(
-                "trailer\n<< /Size %d /Root %s /Info %s >>\n",
-                Locale.ENGLISH,
-                this.id.value(),
-                this.catalog.indirect().reference().asString(),
-                this.information.indirect().reference().asString()
-            ).asString().getBytes(StandardCharsets.UTF_8);
-        }
-    }
 }
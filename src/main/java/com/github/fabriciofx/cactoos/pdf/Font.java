@@ -9,7 +9,7 @@ package com.github.fabriciofx.cactoos.pdf;
  *
  * @since 0.0.1
  */
-public interface Font extends Resource {
+public interface Font extends Resource, Widths {
     /**
      * Font name.
      *
@@ -31,4 +31,14 @@ public interface Font extends Resource {
      * @return The size of the char in a font
      */
     int width(char chr);
+
+    /**
+     * Kerning between two characters in a font.
+     *
+     * @param left Left character
+     * @param right Right character
+     * @return The amount added to the width of the left one, in thousandths
+     *  of the font size
+     */
+    int kerning(char left, char right);
 }
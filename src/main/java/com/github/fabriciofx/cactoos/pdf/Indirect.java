@@ -27,4 +27,19 @@ public interface Indirect extends Bytes {
      * @return A dictionary
      */
     Dictionary dictionary();
+
+    /**
+     * Whether the indirect has a stream, known without rendering it.
+     *
+     * @return True if it has a stream
+     */
+    boolean hasStream();
+
+    /**
+     * Write the indirect, as it appears in a PDF document, into a sink.
+     *
+     * @param sink Where the indirect will be written
+     * @throws Exception if fails
+     */
+    void writeTo(Sink sink) throws Exception;
 }
@@ -4,8 +4,6 @@
  */
 package com.github.fabriciofx.cactoos.pdf;
 
-import java.util.List;
-
 /**
  * Represent any PDF object.
  *
@@ -24,9 +22,9 @@ public interface Object {
     /**
      * Print object.
      *
-     * @param indirects List of indirects to print
+     * @param xref Cross-reference where indirects are written
      * @param parent Parent number, if there is one
      * @throws Exception if fails
      */
-    void print(List<Indirect> indirects, int... parent) throws Exception;
+    void print(Xref xref, int... parent) throws Exception;
 }
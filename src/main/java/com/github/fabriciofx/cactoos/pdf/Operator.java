@@ -0,0 +1,22 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf;
+
+/**
+ * Content stream operator, together with its operands.
+ *
+ * <p>An operator writes its operands, its name and the whitespace that
+ * follows it, so a sequence of operators is a content stream.
+ *
+ * @since 0.0.1
+ */
+public interface Operator {
+    /**
+     * Write the operator, as it appears in a content stream, into a sink.
+     *
+     * @param sink Where the operator will be written
+     */
+    void writeTo(Sink sink);
+}
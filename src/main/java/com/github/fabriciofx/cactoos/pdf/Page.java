@@ -13,7 +13,7 @@ import com.github.fabriciofx.cactoos.pdf.resource.Resources;
  * @since 0.0.1
  */
 @SuppressWarnings("PMD.ExtendsObject")
-public interface Page extends Object {
+public interface Page extends Object, Referenced {
     /**
      * Page Resources.
      *
@@ -12,7 +12,7 @@ import com.github.fabriciofx.cactoos.pdf.page.Format;
  * @since 0.0.1
  */
 @SuppressWarnings({"PMD.ExtendsObject", "PMD.ImplicitFunctionalInterface"})
-public interface Pages extends Object {
+public interface Pages extends Object, Referenced {
     /**
      * Page format.
      *
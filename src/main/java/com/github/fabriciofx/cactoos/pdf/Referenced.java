@@ -0,0 +1,22 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf;
+
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+
+/**
+ * An object that owns an object number, so other objects can refer to it.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.ImplicitFunctionalInterface")
+public interface Referenced {
+    /**
+     * Object reference, known without rendering the object.
+     *
+     * @return An object reference
+     */
+    Reference reference();
+}
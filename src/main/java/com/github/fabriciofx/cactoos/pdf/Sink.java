@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Sink of bytes, where PDF objects write themselves.
+ *
+ * @since 0.0.1
+ */
+public interface Sink {
+    /**
+     * Append a byte.
+     *
+     * @param value The byte
+     * @return This sink
+     */
+    Sink append(byte value);
+
+    /**
+     * Append bytes.
+     *
+     * @param bytes The bytes
+     * @return This sink
+     */
+    Sink append(byte[] bytes);
+
+    /**
+     * Append a text, encoded as UTF-8.
+     *
+     * @param text The text
+     * @return This sink
+     */
+    Sink append(CharSequence text);
+
+    /**
+     * Append a part of a text, encoded as UTF-8.
+     *
+     * @param text The text
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return This sink
+     */
+    Sink append(CharSequence text, int start, int end);
+
+    /**
+     * Append a number in decimal notation.
+     *
+     * @param number The number
+     * @return This sink
+     */
+    Sink append(long number);
+
+    /**
+     * Append a real number in decimal notation, rounded half up to a fixed
+     * amount of fractional digits, as "%.2f" does for a precision of two.
+     *
+     * @param number The number
+     * @param precision Amount of fractional digits, from 0 to 9
+     * @return This sink
+     */
+    Sink append(double number, int precision);
+
+    /**
+     * Amount of bytes in the sink.
+     *
+     * @return Amount of bytes
+     */
+    int size();
+
+    /**
+     * Discard the bytes after a size.
+     *
+     * @param size Amount of bytes to keep
+     * @return This sink
+     */
+    Sink truncate(int size);
+
+    /**
+     * Copy the bytes in the sink.
+     *
+     * @return The bytes
+     */
+    byte[] toByteArray();
+
+    /**
+     * Copy part of the bytes in the sink.
+     *
+     * @param start Index of the first byte
+     * @param end Index after the last byte
+     * @return The bytes
+     */
+    byte[] toByteArray(int start, int end);
+
+    /**
+     * Write the bytes in the sink into an output stream.
+     *
+     * @param output The output stream
+     * @throws IOException if fails
+     */
+    void writeTo(OutputStream output) throws IOException;
+}
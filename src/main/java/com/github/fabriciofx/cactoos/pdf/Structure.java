@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf;
+
+import java.io.OutputStream;
+
+/**
+ * File structure of a document.
+ *
+ * <p>It defines how indirects and the cross-reference are written.
+ *
+ * @since 0.0.1
+ */
+public interface Structure {
+    /**
+     * PDF version required by this structure.
+     *
+     * @return The PDF version
+     */
+    String version();
+
+    /**
+     * Create a cross-reference to write a document.
+     *
+     * @param id Id
+     * @param output Output stream where the document is written
+     * @param start Amount of bytes written before the first indirect
+     * @return A cross-reference
+     */
+    Xref xref(Id id, OutputStream output, long start);
+}
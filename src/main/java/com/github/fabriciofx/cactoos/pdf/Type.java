@@ -17,4 +17,11 @@ import org.cactoos.Text;
  * @since 0.0.1
  */
 public interface Type<T> extends Scalar<T>, Text, Bytes {
+    /**
+     * Write the type, as it appears in a PDF document, into a sink.
+     *
+     * @param sink Where the type will be written
+     * @throws Exception if fails
+     */
+    void writeTo(Sink sink) throws Exception;
 }
@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf;
+
+import com.github.fabriciofx.cactoos.pdf.operator.Operators;
+
+/**
+ * Content made of text operators in a single font.
+ *
+ * <p>Decorators such as margins and justification take the operators of a
+ * typeset content and lay them out again, so they can be stacked on any
+ * of them.
+ *
+ * @since 0.0.1
+ */
+public interface Typeset extends Content {
+    /**
+     * Operators that show the text.
+     *
+     * @return The operators
+     * @throws Exception if fails
+     */
+    Operators operators() throws Exception;
+
+    /**
+     * Font.
+     *
+     * @return The font of the text
+     */
+    Font font();
+}
@@ -0,0 +1,23 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf;
+
+/**
+ * Widths of texts, such as words and lines.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.ImplicitFunctionalInterface")
+public interface Widths {
+    /**
+     * Width of a part of a text.
+     *
+     * @param text Text
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return The width, in thousandths of the font size for a font
+     */
+    int width(CharSequence text, int start, int end);
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf;
+
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+
+/**
+ * Cross-reference.
+ *
+ * <p>Where printed indirects are written into a document. It keeps track
+ * of where each object was written, to build the cross-reference section
+ * at the end of the document. A written indirect can't be read back.
+ *
+ * @since 0.0.1
+ */
+public interface Xref {
+    /**
+     * Write an indirect.
+     *
+     * @param indirect Indirect to be written
+     * @throws Exception if fails
+     */
+    void add(Indirect indirect) throws Exception;
+
+    /**
+     * Whether an indirect was already written.
+     *
+     * @param indirect Indirect
+     * @return True if an indirect with the same object number was written
+     */
+    boolean contains(Indirect indirect);
+
+    /**
+     * Write the cross-reference section and the trailer.
+     *
+     * @param root Document catalog reference
+     * @param info Document information reference
+     * @throws Exception if fails
+     */
+    void finish(Reference root, Reference info) throws Exception;
+}
@@ -0,0 +1,324 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.content;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Compression policy.
+ *
+ * <p>It defines the deflate level and strategy and the minimum amount of
+ * bytes worth compressing. Share one between the contents of a document to
+ * compress all of them the same way.
+ *
+ * <p>Each thread keeps a single Deflater, reset before each use, instead
+ * of allocating the native zlib state of a new one for every stream. Its
+ * native state is released by the Deflater cleaner once the thread ends.
+ *
+ * <p>Streams larger than a chunk are split into chunks compressed in an
+ * executor, as pigz does: each chunk is a raw deflate, flushed to a byte
+ * boundary and primed with the last 32 KiB of the previous chunk, and the
+ * chunks are joined into a single zlib stream. The executor must be given
+ * explicitly and must not be the one rendering the objects (the one of
+ * {@link com.github.fabriciofx.cactoos.pdf.xref.Parallel}, for instance):
+ * a rendering thread waits for its chunks, and with every thread waiting
+ * no chunk could start. Without chunks, nothing runs outside the calling
+ * thread.
+ *
+ * @since 0.0.1
+ */
+public final class Compression {
+    /**
+     * Deflater of each thread.
+     */
+    private static final ThreadLocal<Deflater> DEFLATERS =
+        ThreadLocal.withInitial(Deflater::new);
+
+    /**
+     * Size of the deflate window, used as dictionary of a chunk.
+     */
+    private static final int WINDOW = 32 * 1024;
+
+    /**
+     * Deflate level.
+     */
+    private final int level;
+
+    /**
+     * Deflate strategy.
+     */
+    private final int strategy;
+
+    /**
+     * Minimum amount of bytes worth compressing.
+     */
+    private final int minimum;
+
+    /**
+     * Executor that compresses the chunks.
+     */
+    private final Executor executor;
+
+    /**
+     * Size of a chunk.
+     */
+    private final int chunk;
+
+    /**
+     * Ctor.
+     *
+     * <p>Default level and strategy, compressing every stream.
+     */
+    public Compression() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param level Deflate level, from {@link Deflater}
+     */
+    public Compression(final int level) {
+        this(level, Deflater.DEFAULT_STRATEGY, 0);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param level Deflate level, from {@link Deflater}
+     * @param strategy Deflate strategy, from {@link Deflater}
+     * @param minimum Minimum amount of bytes worth compressing
+     */
+    public Compression(final int level, final int strategy, final int minimum) {
+        this(level, strategy, minimum, Runnable::run, 0);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param level Deflate level, from {@link Deflater}
+     * @param executor Executor that compresses the chunks
+     * @param chunk Size of a chunk, zero to never split a stream
+     */
+    public Compression(
+        final int level,
+        final Executor executor,
+        final int chunk
+    ) {
+        this(level, Deflater.DEFAULT_STRATEGY, 0, executor, chunk);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param level Deflate level, from {@link Deflater}
+     * @param strategy Deflate strategy, from {@link Deflater}
+     * @param minimum Minimum amount of bytes worth compressing
+     * @param executor Executor that compresses the chunks
+     * @param chunk Size of a chunk, zero to never split a stream
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Compression(
+        final int level,
+        final int strategy,
+        final int minimum,
+        final Executor executor,
+        final int chunk
+    ) {
+        this.level = level;
+        this.strategy = strategy;
+        this.minimum = minimum;
+        this.executor = executor;
+        this.chunk = chunk;
+    }
+
+    /**
+     * Check if an amount of bytes is worth compressing.
+     *
+     * @param length Amount of bytes
+     * @return True if it must be compressed, false otherwise
+     */
+    public boolean worth(final int length) {
+        return length >= this.minimum;
+    }
+
+    /**
+     * Compress bytes using the deflate method.
+     *
+     * @param bytes Bytes to be compressed
+     * @return Compressed bytes
+     */
+    public byte[] deflated(final byte[] bytes) {
+        final byte[] deflated;
+        if (this.chunk > 0 && bytes.length > this.chunk) {
+            deflated = this.parallel(bytes);
+        } else {
+            deflated = this.serial(bytes);
+        }
+        return deflated;
+    }
+
+    /**
+     * Compress bytes in the calling thread.
+     *
+     * @param bytes Bytes to be compressed
+     * @return Compressed bytes, as a zlib stream
+     */
+    private byte[] serial(final byte[] bytes) {
+        final Deflater deflater = Compression.DEFLATERS.get();
+        deflater.reset();
+        deflater.setLevel(this.level);
+        deflater.setStrategy(this.strategy);
+        deflater.setInput(bytes);
+        deflater.finish();
+        byte[] buffer = new byte[Compression.bound(bytes.length)];
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            length = length + deflater.deflate(
+                buffer,
+                length,
+                buffer.length - length
+            );
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * Compress chunks of bytes in the executor and join them.
+     *
+     * @param bytes Bytes to be compressed
+     * @return Compressed bytes, as a zlib stream
+     */
+    private byte[] parallel(final byte[] bytes) {
+        final int count = (bytes.length + this.chunk - 1) / this.chunk;
+        final List<Future<byte[]>> chunks = new ArrayList<>(count);
+        for (int idx = 0; idx < count; ++idx) {
+            final int start = idx * this.chunk;
+            final int end = Math.min(start + this.chunk, bytes.length);
+            chunks.add(
+                CompletableFuture.supplyAsync(
+                    () -> this.raw(bytes, start, end),
+                    this.executor
+                )
+            );
+        }
+        final Adler32 adler = new Adler32();
+        adler.update(bytes);
+        final long checksum = adler.getValue();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(
+            Compression.bound(bytes.length) + count * 5
+        );
+        out.write(0x78);
+        out.write(this.flags());
+        for (final Future<byte[]> future : chunks) {
+            final byte[] deflated = new Unchecked<>(future::get).value();
+            out.write(deflated, 0, deflated.length);
+        }
+        for (int shift = 24; shift >= 0; shift = shift - 8) {
+            out.write((int) (checksum >>> shift) & 0xFF);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Compress a chunk as raw deflate, using the end of the previous chunk
+     * as dictionary. Only the last chunk finishes the deflate stream; the
+     * others are flushed to a byte boundary.
+     *
+     * <p>Its Deflater is not the one of the thread: zlib must have its
+     * level before the dictionary is set, and a reset Deflater only changes
+     * its level when it deflates. A chunk is big enough to pay for a new
+     * one, which is ended as soon as the chunk is compressed.
+     *
+     * @param bytes All the bytes
+     * @param start Index of the first byte of the chunk
+     * @param end Index after the last byte of the chunk
+     * @return Compressed chunk
+     */
+    private byte[] raw(final byte[] bytes, final int start, final int end) {
+        final Deflater deflater = new Deflater(this.level, true);
+        try {
+            deflater.setStrategy(this.strategy);
+            if (start > 0) {
+                final int size = Math.min(Compression.WINDOW, start);
+                deflater.setDictionary(bytes, start - size, size);
+            }
+            deflater.setInput(bytes, start, end - start);
+            final boolean last = end == bytes.length;
+            int flush = Deflater.SYNC_FLUSH;
+            if (last) {
+                deflater.finish();
+                flush = Deflater.NO_FLUSH;
+            }
+            byte[] buffer = new byte[Compression.bound(end - start) + 5];
+            int length = 0;
+            boolean done = false;
+            while (!done) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                length = length + deflater.deflate(
+                    buffer,
+                    length,
+                    buffer.length - length,
+                    flush
+                );
+                if (last) {
+                    done = deflater.finished();
+                } else {
+                    done = length < buffer.length;
+                }
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Second byte of the zlib header, with the compression level hint and
+     * the check bits.
+     *
+     * @return The flags byte
+     */
+    private int flags() {
+        final int hint;
+        if (this.strategy == Deflater.HUFFMAN_ONLY || this.level == 0
+            || this.level == 1) {
+            hint = 0;
+        } else if (this.level == Deflater.DEFAULT_COMPRESSION
+            || this.level == 6) {
+            hint = 2;
+        } else if (this.level < 6) {
+            hint = 1;
+        } else {
+            hint = 3;
+        }
+        final int flags = hint << 6;
+        return flags + (31 - (0x78 * 256 + flags) % 31) % 31;
+    }
+
+    /**
+     * Upper bound of the compressed size, as zlib computes it.
+     *
+     * @param length Amount of bytes to be compressed
+     * @return Maximum amount of compressed bytes
+     */
+    private static int bound(final int length) {
+        return length + (length >> 12) + (length >> 14) + (length >> 25) + 13;
+    }
+}
@@ -7,6 +7,7 @@ package com.github.fabriciofx.cactoos.pdf.content;
 import com.github.fabriciofx.cactoos.pdf.Content;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.Object;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import java.util.List;
 import org.cactoos.list.ListEnvelope;
 import org.cactoos.list.ListOf;
@@ -44,11 +45,11 @@ public final class Contents extends ListEnvelope<Content> implements Object {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
         for (final Content content : this) {
-            content.print(indirects);
+            content.print(xref);
         }
     }
 }
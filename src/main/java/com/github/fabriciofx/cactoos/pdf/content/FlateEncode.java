@@ -7,59 +7,63 @@ package com.github.fabriciofx.cactoos.pdf.content;
 import com.github.fabriciofx.cactoos.pdf.Content;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.indirect.LazyIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Int;
 import com.github.fabriciofx.cactoos.pdf.type.Name;
 import com.github.fabriciofx.cactoos.pdf.type.Stream;
-import java.io.ByteArrayOutputStream;
 import java.util.List;
-import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import org.cactoos.io.OutputTo;
-import org.cactoos.io.TeeInput;
-import org.cactoos.scalar.LengthOf;
 
 /**
  * FlateEncode.
  *
+ * <p>Streams smaller than the minimum of the compression policy are kept
+ * as they are, without the FlateDecode filter.
+ *
+ * <p>Neither stream is kept after it is used: building the indirect
+ * renders the content and compresses it once, and the indirect printed
+ * is built only when it is written, so a page's streams can be collected
+ * as soon as they reach the output.
+ *
  * @since 0.0.1
  */
-@SuppressWarnings("PMD.UnnecessaryLocalRule")
 public final class FlateEncode implements Content {
     /**
      * The content.
      */
     private final Content origin;
 
+    /**
+     * Compression policy.
+     */
+    private final Compression compression;
+
     /**
      * Ctor.
      *
      * @param content The content
      */
     public FlateEncode(final Content content) {
+        this(content, new Compression());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param content The content
+     * @param compression Compression policy
+     */
+    public FlateEncode(final Content content, final Compression compression) {
         this.origin = content;
+        this.compression = compression;
     }
 
     @Override
     public byte[] asStream() throws Exception {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        final Deflater deflater = new Deflater();
-        try (
-            DeflaterOutputStream out = new DeflaterOutputStream(
-                baos,
-                deflater
-            )
-        ) {
-            new LengthOf(
-                new TeeInput(
-                    this.origin.asStream(),
-                    new OutputTo(out)
-                )
-            ).value();
-            deflater.end();
-        }
-        return baos.toByteArray();
+        return this.encoded(this.origin.asStream());
     }
 
     @Override
@@ -67,26 +71,49 @@ public final class FlateEncode implements Content {
         return this.origin.resource();
     }
 
+    @Override
+    public Reference reference() {
+        return this.origin.reference();
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
-        final byte[] stream = this.asStream();
-        final Dictionary dictionary = new Dictionary()
-            .add("Length", new Int(stream.length))
-            .add("Filter", new Name("FlateDecode"))
-            .with(new Stream(stream));
-        final Indirect indirect = this.origin.indirect();
+        final byte[] plain = this.origin.asStream();
+        final byte[] stream = this.encoded(plain);
+        Dictionary dictionary = new Dictionary()
+            .add("Length", new Int(stream.length));
+        if (this.compression.worth(plain.length)) {
+            dictionary = dictionary.add("Filter", new Name("FlateDecode"));
+        }
+        dictionary = dictionary.with(new Stream(stream));
         return new DefaultIndirect(
-            indirect.reference().number(),
-            indirect.reference().generation(),
+            this.reference().number(),
+            this.reference().generation(),
             dictionary
         );
     }
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
+        xref.add(new LazyIndirect(this.reference(), this::indirect));
+    }
+
+    /**
+     * Compress the content stream when it is worth it.
+     *
+     * @param stream The content stream
+     * @return The encoded stream
+     */
+    private byte[] encoded(final byte[] stream) {
+        final byte[] result;
+        if (this.compression.worth(stream.length)) {
+            result = this.compression.deflated(stream);
+        } else {
+            result = stream;
+        }
+        return result;
     }
 }
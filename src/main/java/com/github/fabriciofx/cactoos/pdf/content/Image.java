@@ -8,18 +8,22 @@ import com.github.fabriciofx.cactoos.pdf.Content;
 import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.image.Format;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.indirect.LazyIndirect;
+import com.github.fabriciofx.cactoos.pdf.operator.Draw;
+import com.github.fabriciofx.cactoos.pdf.operator.Operators;
+import com.github.fabriciofx.cactoos.pdf.operator.Restore;
+import com.github.fabriciofx.cactoos.pdf.operator.Save;
+import com.github.fabriciofx.cactoos.pdf.operator.Transform;
 import com.github.fabriciofx.cactoos.pdf.resource.XObject;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Int;
 import com.github.fabriciofx.cactoos.pdf.type.Stream;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Locale;
 import org.cactoos.list.ListOf;
-import org.cactoos.text.FormattedText;
-import org.cactoos.text.UncheckedText;
 
 /**
  * Image.
@@ -115,22 +119,32 @@ public final class Image implements Content {
      * @return The image name
      */
     public String name() {
-        return new UncheckedText(
-            new FormattedText("I%d", this.number)
-        ).asString();
+        return "I".concat(Integer.toString(this.number));
+    }
+
+    /**
+     * Operators that paint the image at its position.
+     *
+     * @return The operators
+     * @throws Exception if fails
+     */
+    public Operators operators() throws Exception {
+        return new Operators(
+            new Save(),
+            new Transform(
+                this.fmt.width(),
+                this.fmt.height(),
+                this.posx,
+                this.posy
+            ),
+            new Draw(this.name()),
+            new Restore()
+        );
     }
 
     @Override
     public byte[] asStream() throws Exception {
-        return new FormattedText(
-            "q %d 0 0 %d %.2f %.2f cm /%s Do Q",
-            Locale.ENGLISH,
-            this.fmt.width(),
-            this.fmt.height(),
-            this.posx,
-            this.posy,
-            this.name()
-        ).asString().getBytes(StandardCharsets.UTF_8);
+        return this.operators().asStream();
     }
 
     @Override
@@ -138,6 +152,11 @@ public final class Image implements Content {
         return new ListOf<>(this.resrc);
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
         final byte[] stream = this.asStream();
@@ -152,11 +171,11 @@ public final class Image implements Content {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
-        this.fmt.print(indirects);
+        xref.add(new LazyIndirect(this.reference(), this::indirect));
+        this.fmt.print(xref);
     }
 
     /**
@@ -4,103 +4,117 @@
  */
 package com.github.fabriciofx.cactoos.pdf.content;
 
-import com.github.fabriciofx.cactoos.pdf.Content;
+import com.github.fabriciofx.cactoos.pdf.Font;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Operator;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Typeset;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.indirect.LazyIndirect;
+import com.github.fabriciofx.cactoos.pdf.operator.End;
+import com.github.fabriciofx.cactoos.pdf.operator.NextLine;
+import com.github.fabriciofx.cactoos.pdf.operator.Operators;
+import com.github.fabriciofx.cactoos.pdf.operator.Position;
+import com.github.fabriciofx.cactoos.pdf.operator.Show;
+import com.github.fabriciofx.cactoos.pdf.operator.ShowKerned;
+import com.github.fabriciofx.cactoos.pdf.operator.WordSpacing;
 import com.github.fabriciofx.cactoos.pdf.page.Format;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.text.Span;
+import com.github.fabriciofx.cactoos.pdf.text.TotalFit;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Int;
 import com.github.fabriciofx.cactoos.pdf.type.Stream;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import org.cactoos.text.FormattedText;
 
 /**
  * Justify.
  *
+ * <p>The lines of the text are broken again by {@link TotalFit} to fill
+ * the width between the left and right margins of the page, and the
+ * spaces of every line but the last are stretched or shrunk with a word
+ * spacing. Lines are measured and shown with the kerning of the font, so
+ * each one ends at the right margin. The text starts at the left margin,
+ * at the same height.
+ *
  * @since 0.0.1
  */
-public final class Justify implements Content {
+public final class Justify implements Typeset {
+    /**
+     * One centimeter in points.
+     *
+     * ONE_CM = 72 (points in 1 inch) / 2.54 (1 inch in cm)
+     */
+    private static final double ONE_CM = 28.346_456_7;
+
+    /**
+     * Left margin.
+     */
+    private final double left;
+
+    /**
+     * Right margin.
+     */
+    private final double right;
+
+    /**
+     * Page Format.
+     */
+    private final Format format;
+
     /**
      * Text.
      */
-    private final Text origin;
+    private final Typeset origin;
 
     /**
      * Ctor.
      *
+     * <p>By default, the page is A4 with margins of 1 cm.
+     *
      * @param text Text to be justified
      */
-    public Justify(final Text text) {
+    public Justify(final Typeset text) {
+        this(1.0, 1.0, Format.A4, text);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param left Left margin in centimeters
+     * @param right Right margin in centimeters
+     * @param format Page format
+     * @param text Text to be justified
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Justify(
+        final double left,
+        final double right,
+        final Format format,
+        final Typeset text
+    ) {
+        this.left = left;
+        this.right = right;
+        this.format = format;
         this.origin = text;
     }
 
+    @Override
+    public Operators operators() throws Exception {
+        return this.layout();
+    }
+
+    @Override
+    public Font font() {
+        return this.origin.font();
+    }
+
     @Override
     public byte[] asStream() throws Exception {
-        final String str = new String(this.origin.asStream());
-        Pattern pattern = Pattern.compile("(?<=\\().*?(?=\\))");
-        Matcher matcher = pattern.matcher(str);
-        final StringBuilder lines = new StringBuilder();
-        while (matcher.find()) {
-            lines.append(matcher.group()).append(' ');
-        }
-        pattern = Pattern.compile("BT.*TL");
-        matcher = pattern.matcher(str);
-        final StringBuilder stream = new StringBuilder();
-        while (matcher.find()) {
-            stream.append(matcher.group()).append('\n');
-        }
-        final double scale = 72.0 / 25.4;
-        final double rmargin = 28.35 / scale;
-        final double cmargin = rmargin / 10.0;
-        final double width = Format.A4.width() / scale - 2 * rmargin;
-        final double fontsize = this.origin.font().size() / scale;
-        final double wmax = (width - 2 * cmargin) * 1000 / fontsize;
-        int idx = 0;
-        int spaces = 0;
-        int linespace = 0;
-        int length = 0;
-        int start = 0;
-        final String line = lines.toString();
-        while (idx < line.length()) {
-            final char chr = line.charAt(idx);
-            if (chr == ' ') {
-                linespace = length;
-                ++spaces;
-            }
-            length = length + this.origin.font().width(chr);
-            if (length > wmax) {
-                while (line.charAt(idx) != ' ') {
-                    --idx;
-                }
-                ++idx;
-                double wordspace = 0;
-                if (spaces > 1) {
-                    wordspace =
-                        (wmax - linespace) / 1000 * fontsize / (spaces - 1);
-                }
-                stream.append(
-                    new FormattedText(
-                        "%.3f Tw\n",
-                        Locale.ENGLISH,
-                        wordspace * scale
-                    ).asString()
-                )
-                    .append('(')
-                    .append(line, start, idx - 1)
-                    .append(") Tj T*\n");
-                length = 0;
-                linespace = 0;
-                spaces = 0;
-                start = idx;
-            }
-            ++idx;
-        }
-        stream.append("ET");
-        return stream.toString().getBytes(StandardCharsets.UTF_8);
+        return this.operators().asStream();
     }
 
     @Override
@@ -108,14 +122,18 @@ public final class Justify implements Content {
         return this.origin.resource();
     }
 
+    @Override
+    public Reference reference() {
+        return this.origin.reference();
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
-        final Indirect indirect = this.origin.indirect();
         final byte[] stream = this.asStream();
         return new DefaultIndirect(
-            indirect.reference().number(),
-            indirect.reference().generation(),
-            indirect.dictionary()
+            this.reference().number(),
+            this.reference().generation(),
+            new Dictionary()
                 .add("Length", new Int(stream.length))
                 .with(new Stream(stream))
         );
@@ -123,9 +141,80 @@ public final class Justify implements Content {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
+        xref.add(new LazyIndirect(this.reference(), this::indirect));
+    }
+
+    /**
+     * Lay out the operators of the text, with lines filling the width
+     * between the margins.
+     *
+     * @return The operators
+     * @throws Exception if fails
+     */
+    private Operators layout() throws Exception {
+        final List<Operator> operators = new ArrayList<>(0);
+        final StringBuilder words = new StringBuilder();
+        for (final Operator operator : this.origin.operators()) {
+            if (operator instanceof Show) {
+                words.append(((Show) operator).text()).append(' ');
+            } else if (operator instanceof Position) {
+                operators.add(
+                    new Position(
+                        this.left * Justify.ONE_CM,
+                        ((Position) operator).posy()
+                    )
+                );
+            } else if (words.length() == 0 && !(operator instanceof End)) {
+                operators.add(operator);
+            }
+        }
+        final Font font = this.origin.font();
+        final double width = this.format.width()
+            - (this.left + this.right) * Justify.ONE_CM;
+        final Iterator<Span> lines = new TotalFit(words, font, width)
+            .iterator();
+        while (lines.hasNext()) {
+            final String line = lines.next().asString();
+            double spacing = 0;
+            if (lines.hasNext()) {
+                spacing = Justify.spacing(line, font, width);
+            }
+            operators.add(new WordSpacing(spacing));
+            operators.add(new ShowKerned(line, font));
+            operators.add(new NextLine());
+        }
+        operators.add(new End());
+        return new Operators(operators);
+    }
+
+    /**
+     * Word spacing which makes a line as wide as the box.
+     *
+     * @param line Line, with its words separated by a single space
+     * @param font Font
+     * @param width Box width in points
+     * @return The word spacing in points
+     */
+    private static double spacing(
+        final String line,
+        final Font font,
+        final double width
+    ) {
+        int spaces = 0;
+        int idx = line.indexOf(' ');
+        while (idx >= 0) {
+            ++spaces;
+            idx = line.indexOf(' ', idx + 1);
+        }
+        double spacing = 0;
+        if (spaces > 0) {
+            final double natural = font.width(line, 0, line.length())
+                * font.size() / 1000.0;
+            spacing = (width - natural) / spaces;
+        }
+        return spacing;
     }
 }
@@ -0,0 +1,196 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.content;
+
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Typeset;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.indirect.LazyIndirect;
+import com.github.fabriciofx.cactoos.pdf.operator.Begin;
+import com.github.fabriciofx.cactoos.pdf.operator.End;
+import com.github.fabriciofx.cactoos.pdf.operator.Leading;
+import com.github.fabriciofx.cactoos.pdf.operator.NextLine;
+import com.github.fabriciofx.cactoos.pdf.operator.Operators;
+import com.github.fabriciofx.cactoos.pdf.operator.Position;
+import com.github.fabriciofx.cactoos.pdf.operator.Show;
+import com.github.fabriciofx.cactoos.pdf.operator.Typeface;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import com.github.fabriciofx.cactoos.pdf.type.Int;
+import com.github.fabriciofx.cactoos.pdf.type.Stream;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.list.ListOf;
+
+/**
+ * Lines of text, already broken, shown one after another.
+ *
+ * <p>Unlike {@link Text}, the lines are not wrapped again: each one is
+ * shown as it is, starting at the position and moving down by the leading.
+ *
+ * @since 0.0.1
+ */
+public final class Lines implements Typeset {
+    /**
+     * Object number.
+     */
+    private final int number;
+
+    /**
+     * Generation number.
+     */
+    private final int generation;
+
+    /**
+     * Font.
+     */
+    private final Font typeface;
+
+    /**
+     * Position X.
+     */
+    private final double posx;
+
+    /**
+     * Position Y.
+     */
+    private final double posy;
+
+    /**
+     * Space between lines.
+     */
+    private final double leading;
+
+    /**
+     * Lines.
+     */
+    private final List<? extends org.cactoos.Text> lines;
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param font Font
+     * @param posx Position X
+     * @param posy Position Y
+     * @param leading Space between lines
+     * @param lines Lines
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Lines(
+        final Id id,
+        final Font font,
+        final double posx,
+        final double posy,
+        final double leading,
+        final List<? extends org.cactoos.Text> lines
+    ) {
+        this(id.increment(), 0, font, posx, posy, leading, lines);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param number Object number
+     * @param generation Generation number
+     * @param font Font
+     * @param posx Position X
+     * @param posy Position Y
+     * @param leading Space between lines
+     * @param lines Lines
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Lines(
+        final int number,
+        final int generation,
+        final Font font,
+        final double posx,
+        final double posy,
+        final double leading,
+        final List<? extends org.cactoos.Text> lines
+    ) {
+        this.number = number;
+        this.generation = generation;
+        this.typeface = font;
+        this.posx = posx;
+        this.posy = posy;
+        this.leading = leading;
+        this.lines = lines;
+    }
+
+    @Override
+    public Operators operators() throws Exception {
+        return this.layout();
+    }
+
+    @Override
+    public Font font() {
+        return this.typeface;
+    }
+
+    @Override
+    public byte[] asStream() throws Exception {
+        return this.operators().asStream();
+    }
+
+    @Override
+    public List<Resource> resource() {
+        return new ListOf<>(this.typeface);
+    }
+
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
+    @Override
+    public Indirect indirect(final int... parent) throws Exception {
+        final byte[] stream = this.asStream();
+        return new DefaultIndirect(
+            this.number,
+            this.generation,
+            new Dictionary()
+                .add("Length", new Int(stream.length))
+                .with(new Stream(stream))
+        );
+    }
+
+    @Override
+    public void print(
+        final Xref xref,
+        final int... parent
+    ) throws Exception {
+        xref.add(new LazyIndirect(this.reference(), this::indirect));
+    }
+
+    /**
+     * Lay out the lines, one after another.
+     *
+     * @return The operators
+     * @throws Exception if fails
+     */
+    private Operators layout() throws Exception {
+        final List<Operator> operators = new ArrayList<>(
+            this.lines.size() * 2 + 5
+        );
+        operators.add(new Begin());
+        operators.add(
+            new Typeface(this.typeface.name(), this.typeface.size())
+        );
+        operators.add(new Position(this.posx, this.posy));
+        operators.add(new Leading(this.leading));
+        for (final org.cactoos.Text line : this.lines) {
+            operators.add(new Show(line.asString()));
+            operators.add(new NextLine());
+        }
+        operators.add(new End());
+        return new Operators(operators);
+    }
+}
@@ -4,19 +4,23 @@
  */
 package com.github.fabriciofx.cactoos.pdf.content;
 
-import com.github.fabriciofx.cactoos.pdf.Content;
+import com.github.fabriciofx.cactoos.pdf.Font;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Operator;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Typeset;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.indirect.LazyIndirect;
+import com.github.fabriciofx.cactoos.pdf.operator.Operators;
+import com.github.fabriciofx.cactoos.pdf.operator.Position;
 import com.github.fabriciofx.cactoos.pdf.page.Format;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Int;
 import com.github.fabriciofx.cactoos.pdf.type.Stream;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import org.cactoos.text.FormattedText;
 
 /**
  * Margins.
@@ -24,7 +28,7 @@ import org.cactoos.text.FormattedText;
  * @since 0.0.1
  */
 @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.UnnecessaryLocalRule"})
-public final class Margins implements Content {
+public final class Margins implements Typeset {
     /**
      * One centimeter in points.
      *
@@ -60,14 +64,14 @@ public final class Margins implements Content {
     /**
      * Text.
      */
-    private final Text origin;
+    private final Typeset origin;
 
     /**
      * Ctor.
      *
      * @param text Text to be decorated
      */
-    public Margins(final Text text) {
+    public Margins(final Typeset text) {
         this(1.0, 1.0, 1.0, 1.0, Format.A4, text);
     }
 
@@ -88,7 +92,7 @@ public final class Margins implements Content {
         final double bottom,
         final double left,
         final Format format,
-        final Text text
+        final Typeset text
     ) {
         this.top = top;
         this.right = right;
@@ -98,43 +102,33 @@ public final class Margins implements Content {
         this.origin = text;
     }
 
+    @Override
+    public Operators operators() throws Exception {
+        return this.layout();
+    }
+
+    @Override
+    public Font font() {
+        return this.origin.font();
+    }
+
     @Override
     public byte[] asStream() throws Exception {
-        final Pattern pattern = Pattern.compile("BT.*TL");
-        final Matcher matcher = pattern.matcher(
-            new String(this.origin.asStream())
-        );
-        final StringBuffer stream = new StringBuffer();
-        while (matcher.find()) {
-            final String[] parts = matcher.group().split("\\s+");
-            final String fontname = parts[1];
-            final String fontsize = parts[2];
-            final String leading = parts[7];
-            matcher.appendReplacement(
-                stream,
-                new FormattedText(
-                    "BT %s %s Tf %.2f %.2f Td %s TL",
-                    Locale.ENGLISH,
-                    fontname,
-                    fontsize,
-                    this.left * Margins.ONE_CM,
-                    this.format.height() - this.top * Margins.ONE_CM,
-                    leading
-                ).asString()
-            );
-        }
-        matcher.appendTail(stream);
-        return stream.toString().getBytes(StandardCharsets.UTF_8);
+        return this.operators().asStream();
+    }
+
+    @Override
+    public Reference reference() {
+        return this.origin.reference();
     }
 
     @Override
     public Indirect indirect(final int... parent) throws Exception {
-        final Indirect indirect = this.origin.indirect();
         final byte[] stream = this.asStream();
         return new DefaultIndirect(
-            indirect.reference().number(),
-            indirect.reference().generation(),
-            indirect.dictionary()
+            this.reference().number(),
+            this.reference().generation(),
+            new Dictionary()
                 .add("Length", new Int(stream.length))
                 .with(new Stream(stream))
         );
@@ -147,9 +141,32 @@ public final class Margins implements Content {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
+        xref.add(new LazyIndirect(this.reference(), this::indirect));
+    }
+
+    /**
+     * Lay out the operators of the text, moved to the top left margin.
+     *
+     * @return The operators
+     * @throws Exception if fails
+     */
+    private Operators layout() throws Exception {
+        final List<Operator> operators = new ArrayList<>(0);
+        for (final Operator operator : this.origin.operators()) {
+            if (operator instanceof Position) {
+                operators.add(
+                    new Position(
+                        this.left * Margins.ONE_CM,
+                        this.format.height() - this.top * Margins.ONE_CM
+                    )
+                );
+            } else {
+                operators.add(operator);
+            }
+        }
+        return new Operators(operators);
     }
 }
@@ -4,29 +4,46 @@
  */
 package com.github.fabriciofx.cactoos.pdf.content;
 
-import com.github.fabriciofx.cactoos.pdf.Content;
 import com.github.fabriciofx.cactoos.pdf.Font;
 import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Operator;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Typeset;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
-import com.github.fabriciofx.cactoos.pdf.text.Escaped;
+import com.github.fabriciofx.cactoos.pdf.indirect.LazyIndirect;
+import com.github.fabriciofx.cactoos.pdf.operator.Begin;
+import com.github.fabriciofx.cactoos.pdf.operator.End;
+import com.github.fabriciofx.cactoos.pdf.operator.Leading;
+import com.github.fabriciofx.cactoos.pdf.operator.NextLine;
+import com.github.fabriciofx.cactoos.pdf.operator.Operators;
+import com.github.fabriciofx.cactoos.pdf.operator.Position;
+import com.github.fabriciofx.cactoos.pdf.operator.Show;
+import com.github.fabriciofx.cactoos.pdf.operator.Typeface;
 import com.github.fabriciofx.cactoos.pdf.text.Multiline;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.text.Wrapped;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Int;
 import com.github.fabriciofx.cactoos.pdf.type.Stream;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import org.cactoos.list.ListOf;
-import org.cactoos.text.FormattedText;
 
 /**
  * Text.
  *
+ * <p>By default, lines are broken by {@link Multiline}, counting
+ * characters. To fill lines up to a width measured by the font, give the
+ * lines of a {@link Wrapped} instead of the content:
+ *
+ * <pre>{@code new Text(id, font, 20, 800, new Wrapped(content, font, 500))}
+ * </pre>
+ *
  * @since 0.0.1
  */
-public final class Text implements Content {
+public final class Text implements Typeset {
     /**
      * Object number.
      */
@@ -52,20 +69,15 @@ public final class Text implements Content {
      */
     private final double posy;
 
-    /**
-     * Max line length.
-     */
-    private final int max;
-
     /**
      * Space between lines.
      */
     private final double leading;
 
     /**
-     * Text content.
+     * Lines of the text.
      */
-    private final org.cactoos.Text content;
+    private final Iterable<? extends org.cactoos.Text> lines;
 
     /**
      * Ctor.
@@ -173,48 +185,89 @@ public final class Text implements Content {
         final int max,
         final double leading,
         final org.cactoos.Text content
+    ) {
+        this(
+            number,
+            generation,
+            font,
+            posx,
+            posy,
+            leading,
+            new Multiline(content, max)
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param font Font
+     * @param posx Position X
+     * @param posy Position Y
+     * @param lines Lines of the text, as {@link Wrapped} breaks them
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Text(
+        final Id id,
+        final Font font,
+        final double posx,
+        final double posy,
+        final Iterable<? extends org.cactoos.Text> lines
+    ) {
+        this(
+            id.increment(),
+            0,
+            font,
+            posx,
+            posy,
+            font.size() * 1.20,
+            lines
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param number Object number
+     * @param generation Generation number
+     * @param font Font
+     * @param posx Position X
+     * @param posy Position Y
+     * @param leading Space between lines
+     * @param lines Lines of the text, as {@link Wrapped} breaks them
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Text(
+        final int number,
+        final int generation,
+        final Font font,
+        final double posx,
+        final double posy,
+        final double leading,
+        final Iterable<? extends org.cactoos.Text> lines
     ) {
         this.number = number;
         this.generation = generation;
         this.typeface = font;
         this.posx = posx;
         this.posy = posy;
-        this.max = max;
         this.leading = leading;
-        this.content = new Escaped(content);
+        this.lines = lines;
     }
 
-    /**
-     * Font.
-     *
-     * @return The font of text
-     */
+    @Override
     public Font font() {
         return this.typeface;
     }
 
+    @Override
+    public Operators operators() throws Exception {
+        return this.layout();
+    }
+
     @Override
     public byte[] asStream() throws Exception {
-        final StringBuilder out = new StringBuilder();
-        for (final org.cactoos.Text line : new Multiline(this.content, this.max)) {
-            out.append(
-                new FormattedText(
-                    "(%s) Tj T*\n",
-                    Locale.ENGLISH,
-                    line
-                ).asString()
-            );
-        }
-        return new FormattedText(
-            "BT /%s %d Tf %.2f %.2f Td %.2f TL\n%sET",
-            Locale.ENGLISH,
-            this.typeface.name(),
-            this.typeface.size(),
-            this.posx,
-            this.posy,
-            this.leading,
-            out.toString()
-        ).asString().getBytes(StandardCharsets.UTF_8);
+        return this.operators().asStream();
     }
 
     @Override
@@ -222,6 +275,11 @@ public final class Text implements Content {
         return new ListOf<>(this.typeface);
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
         final byte[] stream = this.asStream();
@@ -236,9 +294,31 @@ public final class Text implements Content {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
+        xref.add(new LazyIndirect(this.reference(), this::indirect));
+    }
+
+    /**
+     * Lay out the text, one line after another.
+     *
+     * @return The operators
+     * @throws Exception if fails
+     */
+    private Operators layout() throws Exception {
+        final List<Operator> operators = new ArrayList<>(0);
+        operators.add(new Begin());
+        operators.add(
+            new Typeface(this.typeface.name(), this.typeface.size())
+        );
+        operators.add(new Position(this.posx, this.posy));
+        operators.add(new Leading(this.leading));
+        for (final org.cactoos.Text line : this.lines) {
+            operators.add(new Show(line.asString()));
+            operators.add(new NextLine());
+        }
+        operators.add(new End());
+        return new Operators(operators);
     }
 }
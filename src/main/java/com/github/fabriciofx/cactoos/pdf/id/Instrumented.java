@@ -0,0 +1,146 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.id;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Instrumented.
+ *
+ * <p>Id that counts how many object numbers each class takes, so it is
+ * possible to see which contents, resources or pages use most of them.
+ * The caller is found walking only the frames above this id, and only for
+ * one in every {@code period} increments, chosen at random; its counter is
+ * then increased by the period. A period of one counts every increment
+ * exactly.
+ *
+ * @since 0.0.1
+ */
+public final class Instrumented implements Id {
+    /**
+     * Walker that keeps the classes of the frames.
+     */
+    private static final StackWalker WALKER = StackWalker.getInstance(
+        StackWalker.Option.RETAIN_CLASS_REFERENCE
+    );
+
+    /**
+     * The Id.
+     */
+    private final Id origin;
+
+    /**
+     * One in every period increments has its caller found.
+     */
+    private final int period;
+
+    /**
+     * Amount of increments.
+     */
+    private final LongAdder increments;
+
+    /**
+     * Estimated amount of increments of each caller class.
+     */
+    private final ConcurrentMap<Class<?>, AtomicLong> callers;
+
+    /**
+     * Ctor.
+     *
+     * <p>The caller is found for one in every 128 increments, which keeps
+     * the cost of walking the stack a few nanoseconds per increment.
+     *
+     * @param id Id to be instrumented
+     */
+    public Instrumented(final Id id) {
+        this(id, 128);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id to be instrumented
+     * @param period One in every period increments has its caller found
+     */
+    public Instrumented(final Id id, final int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException(
+                "Period must be at least one"
+            );
+        }
+        this.origin = id;
+        this.period = period;
+        this.increments = new LongAdder();
+        this.callers = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public int increment() {
+        final int num = this.origin.increment();
+        this.increments.increment();
+        if (this.period == 1
+            || ThreadLocalRandom.current().nextInt(this.period) == 0) {
+            final Class<?> caller = Instrumented.caller();
+            AtomicLong counter = this.callers.get(caller);
+            if (counter == null) {
+                counter = this.callers.computeIfAbsent(
+                    caller,
+                    key -> new AtomicLong()
+                );
+            }
+            counter.addAndGet(this.period);
+        }
+        return num;
+    }
+
+    @Override
+    public Integer value() throws Exception {
+        return this.origin.value();
+    }
+
+    /**
+     * Amount of increments.
+     *
+     * @return The amount of increments
+     */
+    public long increments() {
+        return this.increments.sum();
+    }
+
+    /**
+     * Estimated amount of increments of each caller class, by class name.
+     *
+     * @return A copy of the counters, sorted by class name
+     */
+    public Map<String, Long> snapshot() {
+        final Map<String, Long> snapshot = new TreeMap<>();
+        for (final Map.Entry<Class<?>, AtomicLong> entry
+            : this.callers.entrySet()) {
+            snapshot.put(entry.getKey().getName(), entry.getValue().get());
+        }
+        return snapshot;
+    }
+
+    /**
+     * First class in the stack that is not an id.
+     *
+     * @return The caller class
+     */
+    private static Class<?> caller() {
+        return Instrumented.WALKER.walk(
+            frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(type -> !Id.class.isAssignableFrom(type))
+                .findFirst()
+        ).orElse(Instrumented.class);
+    }
+}
@@ -82,39 +82,53 @@ public final class Logged implements Id {
     @Override
     public int increment() {
         final int num = this.origin.increment();
-        final StackTraceElement[] stack = Thread.currentThread().getStackTrace();
-        final String method = stack[2].getMethodName();
-        this.logger.log(
-            this.level.value(),
-            new UncheckedText(
-                new FormattedText(
-                    "%s called increment(): was %d become %d from %s",
-                    method,
-                    num,
-                    num + 1,
-                    this.source
-                )
-            ).asString()
-        );
+        if (this.logger.isLoggable(this.level.value())) {
+            this.logger.log(
+                this.level.value(),
+                new UncheckedText(
+                    new FormattedText(
+                        "%s called increment(): was %d become %d from %s",
+                        Logged.caller(),
+                        num,
+                        num + 1,
+                        this.source
+                    )
+                ).asString()
+            );
+        }
         return num;
     }
 
     @Override
     public Integer value() throws Exception {
         final int num = this.origin.value();
-        final StackTraceElement[] stack = Thread.currentThread().getStackTrace();
-        final String method = stack[2].getMethodName();
-        this.logger.log(
-            this.level.value(),
-            new UncheckedText(
-                new FormattedText(
-                    "%s called value(): %d from %s",
-                    method,
-                    num,
-                    this.source
-                )
-            ).asString()
-        );
+        if (this.logger.isLoggable(this.level.value())) {
+            this.logger.log(
+                this.level.value(),
+                new UncheckedText(
+                    new FormattedText(
+                        "%s called value(): %d from %s",
+                        Logged.caller(),
+                        num,
+                        this.source
+                    )
+                ).asString()
+            );
+        }
         return num;
     }
+
+    /**
+     * Name of the method that called this id.
+     *
+     * <p>Only the two frames above it are walked, instead of capturing the
+     * whole stack trace.
+     *
+     * @return The method name
+     */
+    private static String caller() {
+        return StackWalker.getInstance().walk(
+            frames -> frames.skip(2).findFirst()
+        ).map(StackWalker.StackFrame::getMethodName).orElse("unknown");
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.id;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Striped.
+ *
+ * <p>Id where each thread reserves a contiguous block of object numbers
+ * and increments inside it without touching the shared seed, so objects
+ * can be built by many threads without contention. The numbers of a block
+ * not used by its thread are written as free entries in the
+ * cross-reference.
+ *
+ * <p>The value is the first number not reserved yet, so every number
+ * already given is lower than it.
+ *
+ * @since 0.0.1
+ */
+public final class Striped implements Id {
+    /**
+     * Seed.
+     */
+    private final AtomicInteger seed;
+
+    /**
+     * Amount of numbers reserved at once.
+     */
+    private final int block;
+
+    /**
+     * Next and end numbers of the block reserved by each thread.
+     */
+    private final ThreadLocal<int[]> reserved;
+
+    /**
+     * Ctor.
+     */
+    public Striped() {
+        this(64);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param block Amount of numbers reserved at once
+     */
+    public Striped(final int block) {
+        this(1, block);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param seed Seed to start counting
+     * @param block Amount of numbers reserved at once
+     */
+    public Striped(final int seed, final int block) {
+        this(new AtomicInteger(seed), block);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param seed Seed to start counting
+     * @param block Amount of numbers reserved at once
+     */
+    public Striped(final AtomicInteger seed, final int block) {
+        if (block < 1) {
+            throw new IllegalArgumentException(
+                "Block must have at least one number"
+            );
+        }
+        this.seed = seed;
+        this.block = block;
+        this.reserved = ThreadLocal.withInitial(() -> new int[2]);
+    }
+
+    @Override
+    public Integer value() {
+        return this.seed.get();
+    }
+
+    @Override
+    public int increment() {
+        final int[] range = this.reserved.get();
+        if (range[0] == range[1]) {
+            range[0] = this.seed.getAndAdd(this.block);
+            range[1] = range[0] + this.block;
+        }
+        final int number = range[0];
+        ++range[0];
+        return number;
+    }
+}
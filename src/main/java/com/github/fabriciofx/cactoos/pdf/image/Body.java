@@ -4,12 +4,21 @@
  */
 package com.github.fabriciofx.cactoos.pdf.image;
 
-import com.github.fabriciofx.cactoos.pdf.Content;
-
 /**
  * Body.
  *
+ * <p>The image data, written as the stream of the image format. It is not
+ * an object of its own, so it has no reference nor indirect.
+ *
  * @since 0.0.1
  */
-public interface Body extends Content {
+@SuppressWarnings("PMD.ImplicitFunctionalInterface")
+public interface Body {
+    /**
+     * Stream of the image data.
+     *
+     * @return The stream content
+     * @throws Exception if fails
+     */
+    byte[] asStream() throws Exception;
 }
@@ -7,12 +7,15 @@ package com.github.fabriciofx.cactoos.pdf.image.format;
 import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.image.Format;
 import com.github.fabriciofx.cactoos.pdf.image.Header;
 import com.github.fabriciofx.cactoos.pdf.image.Raw;
 import com.github.fabriciofx.cactoos.pdf.image.jpeg.JpegRaw;
 import com.github.fabriciofx.cactoos.pdf.image.jpeg.Safe;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.indirect.LazyIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Int;
 import com.github.fabriciofx.cactoos.pdf.type.Name;
@@ -92,6 +95,11 @@ public final class Jpeg implements Format {
         return this.raw.header().height();
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
         final Header header = this.raw.header();
@@ -114,10 +122,10 @@ public final class Jpeg implements Format {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
+        xref.add(new LazyIndirect(this.reference(), this::indirect));
     }
 
     @Override
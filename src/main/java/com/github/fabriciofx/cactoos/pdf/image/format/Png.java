@@ -7,6 +7,7 @@ package com.github.fabriciofx.cactoos.pdf.image.format;
 import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.image.Format;
 import com.github.fabriciofx.cactoos.pdf.image.Header;
 import com.github.fabriciofx.cactoos.pdf.image.Palette;
@@ -14,6 +15,8 @@ import com.github.fabriciofx.cactoos.pdf.image.Raw;
 import com.github.fabriciofx.cactoos.pdf.image.png.PngRaw;
 import com.github.fabriciofx.cactoos.pdf.image.png.Safe;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.indirect.LazyIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Array;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Int;
@@ -97,6 +100,11 @@ public final class Png implements Format {
         return this.raw.header().height();
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
         final Header header = this.raw.header();
@@ -116,7 +124,7 @@ public final class Png implements Format {
                         new Name(header.color().space()),
                         new Name("DeviceRGB"),
                         new Int(palette.asStream().length / 3 - 1),
-                        new Text(palette.indirect().reference().asString())
+                        new Text(palette.reference().asString())
                     )
                 )
                 .add("BitsPerComponent", new Int(header.depth()))
@@ -140,11 +148,11 @@ public final class Png implements Format {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
-        this.raw.palette().print(indirects);
+        xref.add(new LazyIndirect(this.reference(), this::indirect));
+        this.raw.palette().print(xref);
     }
 
     @Override
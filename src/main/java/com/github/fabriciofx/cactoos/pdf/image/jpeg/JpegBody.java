@@ -4,12 +4,8 @@
  */
 package com.github.fabriciofx.cactoos.pdf.image.jpeg;
 
-import com.github.fabriciofx.cactoos.pdf.Indirect;
-import com.github.fabriciofx.cactoos.pdf.Resource;
 import com.github.fabriciofx.cactoos.pdf.image.Body;
-import java.util.List;
 import org.cactoos.Bytes;
-import org.cactoos.list.ListOf;
 
 /**
  * JpegBody.
@@ -35,24 +31,4 @@ public final class JpegBody implements Body {
     public byte[] asStream() throws Exception {
         return this.bytes.asBytes();
     }
-
-    @Override
-    public List<Resource> resource() {
-        return new ListOf<>();
-    }
-
-    @Override
-    public Indirect indirect(final int... parent) throws Exception {
-        throw new UnsupportedOperationException(
-            "there is not indirect in jpeg body"
-        );
-    }
-
-    @Override
-    public void print(
-        final List<Indirect> indirects,
-        final int... parent
-    ) throws Exception {
-        // Empty of purpose.
-    }
 }
@@ -4,15 +4,11 @@
  */
 package com.github.fabriciofx.cactoos.pdf.image.png;
 
-import com.github.fabriciofx.cactoos.pdf.Indirect;
-import com.github.fabriciofx.cactoos.pdf.Resource;
 import com.github.fabriciofx.cactoos.pdf.image.Body;
 import com.github.fabriciofx.cactoos.pdf.image.Flow;
 import java.io.ByteArrayOutputStream;
-import java.util.List;
 import org.cactoos.Bytes;
 import org.cactoos.Scalar;
-import org.cactoos.list.ListOf;
 import org.cactoos.scalar.Sticky;
 
 /**
@@ -71,24 +67,4 @@ public final class PngBody implements Body {
     public byte[] asStream() throws Exception {
         return this.bytes.value();
     }
-
-    @Override
-    public List<Resource> resource() {
-        return new ListOf<>();
-    }
-
-    @Override
-    public Indirect indirect(final int... parent) throws Exception {
-        throw new UnsupportedOperationException(
-            "There is no indirect into PNG body"
-        );
-    }
-
-    @Override
-    public void print(
-        final List<Indirect> indirects,
-        final int... parent
-    ) throws Exception {
-        // Empty of purpose.
-    }
 }
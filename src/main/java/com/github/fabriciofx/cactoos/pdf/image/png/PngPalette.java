@@ -7,9 +7,12 @@ package com.github.fabriciofx.cactoos.pdf.image.png;
 import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.image.Flow;
 import com.github.fabriciofx.cactoos.pdf.image.Palette;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.indirect.LazyIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Int;
 import com.github.fabriciofx.cactoos.pdf.type.Stream;
@@ -102,6 +105,11 @@ public final class PngPalette implements Palette {
         return new ListOf<>();
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
         final byte[] stream = this.asStream();
@@ -116,9 +124,9 @@ public final class PngPalette implements Palette {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
+        xref.add(new LazyIndirect(this.reference(), this::indirect));
     }
 }
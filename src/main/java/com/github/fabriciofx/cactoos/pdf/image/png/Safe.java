@@ -4,7 +4,6 @@
  */
 package com.github.fabriciofx.cactoos.pdf.image.png;
 
-import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.image.Body;
 import com.github.fabriciofx.cactoos.pdf.image.Flow;
 import com.github.fabriciofx.cactoos.pdf.image.Header;
@@ -80,9 +79,8 @@ public final class Safe implements Raw {
     @Override
     public Palette palette() throws Exception {
         final Header header = this.header();
-        final Indirect indirect = this.origin.palette().indirect();
         if ("Indexed".equals(header.color().space())
-            && indirect.asBytes().length == 0) {
+            && this.origin.palette().asStream().length == 0) {
             throw new InvalidFormatException("Missing palette in PNG file");
         }
         return this.origin.palette();
@@ -5,13 +5,11 @@
 package com.github.fabriciofx.cactoos.pdf.indirect;
 
 import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
 import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
-import java.io.ByteArrayOutputStream;
-import java.nio.charset.StandardCharsets;
-import java.util.Locale;
 import java.util.Objects;
-import org.cactoos.text.FormattedText;
 
 /**
  * DefaultIndirect.
@@ -61,20 +59,26 @@ public final class DefaultIndirect implements Indirect {
         return this.dict;
     }
 
+    @Override
+    public boolean hasStream() {
+        return this.dict.hasStream();
+    }
+
     @Override
     public byte[] asBytes() throws Exception {
-        final ByteArrayOutputStream output = new ByteArrayOutputStream();
-        output.write(
-            new FormattedText(
-                "%d %d obj\n",
-                Locale.ENGLISH,
-                this.number,
-                this.generation
-            ).asString().getBytes(StandardCharsets.UTF_8)
-        );
-        output.write(this.dict.asBytes());
-        output.write("\nendobj\n".getBytes(StandardCharsets.UTF_8));
-        return output.toByteArray();
+        final Sink sink = new ByteSink();
+        this.writeTo(sink);
+        return sink.toByteArray();
+    }
+
+    @Override
+    public void writeTo(final Sink sink) throws Exception {
+        sink.append(this.number)
+            .append((byte) ' ')
+            .append(this.generation)
+            .append(" obj\n");
+        this.dict.writeTo(sink);
+        sink.append("\nendobj\n");
     }
 
     @Override
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.indirect;
+
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * LazyIndirect.
+ *
+ * <p>Indirect with a stream, whose dictionary and stream are built only
+ * when they are requested for the first time, so an expensive object (a
+ * compressed content or an image) can be rendered by whoever writes it.
+ * The reference is known beforehand.
+ *
+ * @since 0.0.1
+ */
+public final class LazyIndirect implements Indirect {
+    /**
+     * Reference.
+     */
+    private final Reference ref;
+
+    /**
+     * Indirect to be built.
+     */
+    private final Scalar<Indirect> origin;
+
+    /**
+     * Ctor.
+     *
+     * @param reference Reference of the indirect
+     * @param indirect Builds the indirect
+     */
+    public LazyIndirect(
+        final Reference reference,
+        final Scalar<Indirect> indirect
+    ) {
+        this.ref = reference;
+        this.origin = new Sticky<>(indirect);
+    }
+
+    @Override
+    public Reference reference() {
+        return this.ref;
+    }
+
+    @Override
+    public Dictionary dictionary() {
+        return new Unchecked<>(this.origin).value().dictionary();
+    }
+
+    @Override
+    public boolean hasStream() {
+        return true;
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        return this.origin.value().asBytes();
+    }
+
+    @Override
+    public void writeTo(final Sink sink) throws Exception {
+        this.origin.value().writeTo(sink);
+    }
+}
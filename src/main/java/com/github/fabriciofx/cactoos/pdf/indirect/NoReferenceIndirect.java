@@ -5,6 +5,7 @@
 package com.github.fabriciofx.cactoos.pdf.indirect;
 
 import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Sink;
 import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 
@@ -40,8 +41,18 @@ public final class NoReferenceIndirect implements Indirect {
         return this.dict;
     }
 
+    @Override
+    public boolean hasStream() {
+        return this.dict.hasStream();
+    }
+
     @Override
     public byte[] asBytes() throws Exception {
         return new byte[0];
     }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        // Nothing to write
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.indirect;
+
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * StickyIndirect.
+ *
+ * <p>Decorator that renders the indirect bytes only once, no matter how
+ * many times they are requested. Its length is available without
+ * rendering it again. It is used where the same bytes are needed more
+ * than once, as in {@link com.github.fabriciofx.cactoos.pdf.xref.ParallelXref},
+ * which renders them in another thread and writes them later.
+ *
+ * <p>It is equal only to another sticky indirect of an equal indirect,
+ * and has the same hash code as the indirect it memoizes.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.0.1
+ */
+public final class StickyIndirect implements Indirect {
+    /**
+     * Indirect.
+     */
+    private final Indirect origin;
+
+    /**
+     * Rendered bytes.
+     */
+    private final Scalar<byte[]> bytes;
+
+    /**
+     * Ctor.
+     *
+     * @param indirect Indirect to be memoized
+     */
+    public StickyIndirect(final Indirect indirect) {
+        this.origin = indirect;
+        this.bytes = new Sticky<>(indirect::asBytes);
+    }
+
+    @Override
+    public Reference reference() {
+        return this.origin.reference();
+    }
+
+    @Override
+    public Dictionary dictionary() {
+        return this.origin.dictionary();
+    }
+
+    @Override
+    public boolean hasStream() {
+        return this.origin.hasStream();
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        return this.bytes.value();
+    }
+
+    @Override
+    public void writeTo(final Sink sink) throws Exception {
+        sink.append(this.bytes.value());
+    }
+
+    /**
+     * Amount of rendered bytes.
+     *
+     * @return The length of indirect bytes
+     * @throws Exception if fails
+     */
+    public int length() throws Exception {
+        return this.bytes.value().length;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof StickyIndirect
+            && StickyIndirect.class.cast(obj).origin.equals(this.origin);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.origin.hashCode();
+    }
+}
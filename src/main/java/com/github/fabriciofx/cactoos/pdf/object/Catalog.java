@@ -8,18 +8,20 @@ import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.Object;
 import com.github.fabriciofx.cactoos.pdf.Pages;
+import com.github.fabriciofx.cactoos.pdf.Referenced;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Name;
 import com.github.fabriciofx.cactoos.pdf.type.Text;
-import java.util.List;
 
 /**
  * Catalog.
  *
  * @since 0.0.1
  */
-public final class Catalog implements Object {
+public final class Catalog implements Object, Referenced {
     /**
      * Object number.
      */
@@ -58,24 +60,28 @@ public final class Catalog implements Object {
         this.pages = pages;
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
-        final Indirect indirect = this.pages.indirect();
         return new DefaultIndirect(
             this.number,
             this.generation,
             new Dictionary()
                 .add("Type", new Name("Catalog"))
-                .add("Pages", new Text(indirect.reference().asString()))
+                .add("Pages", new Text(this.pages.reference().asString()))
         );
     }
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
-        this.pages.print(indirects);
+        xref.add(this.indirect());
+        this.pages.print(xref);
     }
 }
@@ -7,10 +7,12 @@ package com.github.fabriciofx.cactoos.pdf.object;
 import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.Object;
+import com.github.fabriciofx.cactoos.pdf.Referenced;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Literal;
-import java.util.List;
 
 /**
  * Document Information Dictionary.
@@ -18,7 +20,7 @@ import java.util.List;
  * @since 0.0.1
  */
 @SuppressWarnings("PMD.ExcessiveParameterList")
-public final class Information implements Object {
+public final class Information implements Object, Referenced {
     /**
      * Object number.
      */
@@ -375,6 +377,11 @@ public final class Information implements Object {
         this.metadata = metadata;
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
         return new DefaultIndirect(this.number, this.generation, this.metadata);
@@ -382,9 +389,9 @@ public final class Information implements Object {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
+        xref.add(this.indirect());
     }
 }
@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+
+/**
+ * Begin a text object (BT).
+ *
+ * @since 0.0.1
+ */
+public final class Begin implements Operator {
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append("BT").append((byte) ' ');
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+
+/**
+ * Paint an external object, such as an image (Do).
+ *
+ * @since 0.0.1
+ */
+public final class Draw implements Operator {
+    /**
+     * Object resource name.
+     */
+    private final String name;
+
+    /**
+     * Ctor.
+     *
+     * @param name Object resource name
+     */
+    public Draw(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append((byte) '/').append(this.name).append(" Do ");
+    }
+}
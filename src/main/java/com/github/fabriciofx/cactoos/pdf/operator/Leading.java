@@ -0,0 +1,34 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+
+/**
+ * Set the space between text lines (TL).
+ *
+ * @since 0.0.1
+ */
+public final class Leading implements Operator {
+    /**
+     * Space between lines.
+     */
+    private final double space;
+
+    /**
+     * Ctor.
+     *
+     * @param space Space between lines
+     */
+    public Leading(final double space) {
+        this.space = space;
+    }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append(this.space, 2).append(" TL\n");
+    }
+}
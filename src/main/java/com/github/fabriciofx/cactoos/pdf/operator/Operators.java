@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
+import java.util.List;
+import org.cactoos.list.ListEnvelope;
+import org.cactoos.list.ListOf;
+
+/**
+ * Operators of a content stream, in the order they are painted.
+ *
+ * <p>Contents build and transform operators; the stream is serialized
+ * only once, when the bytes are asked.
+ *
+ * @since 0.0.1
+ */
+public final class Operators extends ListEnvelope<Operator> {
+    /**
+     * Ctor.
+     *
+     * @param operators An array of operators
+     */
+    public Operators(final Operator... operators) {
+        this(new ListOf<>(operators));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param operators A list of operators
+     */
+    public Operators(final List<Operator> operators) {
+        super(operators);
+    }
+
+    /**
+     * Write the operators into a sink, without the trailing whitespace.
+     *
+     * @param sink Where the operators will be written
+     */
+    public void writeTo(final Sink sink) {
+        final int start = sink.size();
+        for (final Operator operator : this) {
+            operator.writeTo(sink);
+        }
+        if (sink.size() > start) {
+            sink.truncate(sink.size() - 1);
+        }
+    }
+
+    /**
+     * Content stream of the operators.
+     *
+     * @return The stream content
+     */
+    public byte[] asStream() {
+        final Sink sink = new ByteSink();
+        this.writeTo(sink);
+        return sink.toByteArray();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+
+/**
+ * Move to the start of the first text line (Td).
+ *
+ * @since 0.0.1
+ */
+public final class Position implements Operator {
+    /**
+     * Position X.
+     */
+    private final double posx;
+
+    /**
+     * Position Y.
+     */
+    private final double posy;
+
+    /**
+     * Ctor.
+     *
+     * @param posx Position X
+     * @param posy Position Y
+     */
+    public Position(final double posx, final double posy) {
+        this.posx = posx;
+        this.posy = posy;
+    }
+
+    /**
+     * Position Y.
+     *
+     * @return The position Y
+     */
+    public double posy() {
+        return this.posy;
+    }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append(this.posx, 2)
+            .append((byte) ' ')
+            .append(this.posy, 2)
+            .append(" Td ");
+    }
+}
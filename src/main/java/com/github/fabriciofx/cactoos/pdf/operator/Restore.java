@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+
+/**
+ * Restore the graphics state (Q).
+ *
+ * @since 0.0.1
+ */
+public final class Restore implements Operator {
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append("Q").append((byte) '\n');
+    }
+}
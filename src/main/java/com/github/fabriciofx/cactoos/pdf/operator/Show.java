@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.text.Escaped;
+
+/**
+ * Show a text string (Tj).
+ *
+ * <p>The text is kept as it is and only escaped when written, so
+ * decorators see the same characters the user wrote.
+ *
+ * @since 0.0.1
+ */
+public final class Show implements Operator {
+    /**
+     * Text to show.
+     */
+    private final String txt;
+
+    /**
+     * Ctor.
+     *
+     * @param text Text to show
+     */
+    public Show(final String text) {
+        this.txt = text;
+    }
+
+    /**
+     * Text to show, unescaped.
+     *
+     * @return The text
+     */
+    public String text() {
+        return this.txt;
+    }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append((byte) '(');
+        new Escaped(this.txt).writeTo(sink);
+        sink.append(") Tj ");
+    }
+}
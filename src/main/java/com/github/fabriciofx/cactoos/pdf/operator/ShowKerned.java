@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.text.Escaped;
+
+/**
+ * Show a text string with the kerning of its font (TJ).
+ *
+ * <p>The text is split before each kerned pair, and the amount of the
+ * pair moves the next part, so the text is drawn as wide as the font
+ * measures it. A text without kerned pairs is shown as {@link Show} does.
+ *
+ * @since 0.0.1
+ */
+public final class ShowKerned implements Operator {
+    /**
+     * Text to show.
+     */
+    private final String txt;
+
+    /**
+     * Font.
+     */
+    private final Font font;
+
+    /**
+     * Ctor.
+     *
+     * @param text Text to show
+     * @param font Font, which kerns the text
+     */
+    public ShowKerned(final String text, final Font font) {
+        this.txt = text;
+        this.font = font;
+    }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        if (this.kerned()) {
+            sink.append("[(");
+            int start = 0;
+            for (int idx = 1; idx < this.txt.length(); ++idx) {
+                final int amount = this.font.kerning(
+                    this.txt.charAt(idx - 1),
+                    this.txt.charAt(idx)
+                );
+                if (amount != 0) {
+                    new Escaped(this.txt.substring(start, idx)).writeTo(sink);
+                    sink.append(") ").append(-amount).append(" (");
+                    start = idx;
+                }
+            }
+            new Escaped(this.txt.substring(start)).writeTo(sink);
+            sink.append(")] TJ ");
+        } else {
+            new Show(this.txt).writeTo(sink);
+        }
+    }
+
+    /**
+     * Whether any pair of the text is kerned.
+     *
+     * @return True if it is kerned
+     */
+    private boolean kerned() {
+        boolean kerned = false;
+        for (int idx = 1; idx < this.txt.length() && !kerned; ++idx) {
+            kerned = this.font.kerning(
+                this.txt.charAt(idx - 1),
+                this.txt.charAt(idx)
+            ) != 0;
+        }
+        return kerned;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+
+/**
+ * Scale and translate the coordinate system (cm).
+ *
+ * @since 0.0.1
+ */
+public final class Transform implements Operator {
+    /**
+     * Horizontal scale.
+     */
+    private final int scalex;
+
+    /**
+     * Vertical scale.
+     */
+    private final int scaley;
+
+    /**
+     * Horizontal translation.
+     */
+    private final double posx;
+
+    /**
+     * Vertical translation.
+     */
+    private final double posy;
+
+    /**
+     * Ctor.
+     *
+     * @param scalex Horizontal scale
+     * @param scaley Vertical scale
+     * @param posx Horizontal translation
+     * @param posy Vertical translation
+     */
+    public Transform(
+        final int scalex,
+        final int scaley,
+        final double posx,
+        final double posy
+    ) {
+        this.scalex = scalex;
+        this.scaley = scaley;
+        this.posx = posx;
+        this.posy = posy;
+    }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append(this.scalex)
+            .append(" 0 0 ")
+            .append(this.scaley)
+            .append((byte) ' ')
+            .append(this.posx, 2)
+            .append((byte) ' ')
+            .append(this.posy, 2)
+            .append(" cm ");
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+
+/**
+ * Set the font and its size (Tf).
+ *
+ * @since 0.0.1
+ */
+public final class Typeface implements Operator {
+    /**
+     * Font resource name.
+     */
+    private final String name;
+
+    /**
+     * Font size.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     *
+     * @param name Font resource name
+     * @param size Font size
+     */
+    public Typeface(final String name, final int size) {
+        this.name = name;
+        this.size = size;
+    }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append((byte) '/')
+            .append(this.name)
+            .append((byte) ' ')
+            .append(this.size)
+            .append(" Tf ");
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import com.github.fabriciofx.cactoos.pdf.Operator;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+
+/**
+ * Set the extra space between words (Tw).
+ *
+ * @since 0.0.1
+ */
+public final class WordSpacing implements Operator {
+    /**
+     * Extra space between words.
+     */
+    private final double space;
+
+    /**
+     * Ctor.
+     *
+     * @param space Extra space between words
+     */
+    public WordSpacing(final double space) {
+        this.space = space;
+    }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append(this.space, 3).append(" Tw\n");
+    }
+}
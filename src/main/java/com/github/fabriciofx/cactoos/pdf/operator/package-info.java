@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Content stream operators.
+ *
+ * @since 0.0.1
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
@@ -9,6 +9,7 @@ import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.Page;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.content.Contents;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
 import com.github.fabriciofx.cactoos.pdf.resource.ProcSet;
@@ -106,11 +107,16 @@ public final class DefaultPage implements Page {
         return this.contents;
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
         Array refs = new Array();
         for (final Content content : this.contents) {
-            refs = refs.add(new Text(content.indirect().reference().asString()));
+            refs = refs.add(new Text(content.reference().asString()));
         }
         return new DefaultIndirect(
             this.number,
@@ -119,7 +125,7 @@ public final class DefaultPage implements Page {
                 .add("Type", new Name("Page"))
                 .add(
                     "Resources",
-                    new Text(this.resources().indirect().reference().asString())
+                    new Text(this.resources().reference().asString())
                 )
                 .add("Contents", refs)
                 .add("Parent", new Text(new Reference(parent[0], 0).asString()))
@@ -128,11 +134,11 @@ public final class DefaultPage implements Page {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect(parent));
-        this.resources().print(indirects);
-        this.contents().print(indirects);
+        xref.add(this.indirect(parent));
+        this.resources().print(xref);
+        this.contents().print(xref);
     }
 }
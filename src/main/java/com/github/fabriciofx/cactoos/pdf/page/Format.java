@@ -4,10 +4,9 @@
  */
 package com.github.fabriciofx.cactoos.pdf.page;
 
-import java.util.Locale;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
+import java.nio.charset.StandardCharsets;
 import org.cactoos.Text;
-import org.cactoos.text.FormattedText;
-import org.cactoos.text.UncheckedText;
 
 /**
  * Format.
@@ -102,13 +101,13 @@ public enum Format implements Text {
 
     @Override
     public String asString() throws Exception {
-        return new UncheckedText(
-            new FormattedText(
-                "%.2f %.2f",
-                Locale.ENGLISH,
-                this.width,
-                this.height
-            )
-        ).asString();
+        return new String(
+            new ByteSink(24)
+                .append(this.width, 2)
+                .append((byte) ' ')
+                .append(this.height, 2)
+                .toByteArray(),
+            StandardCharsets.US_ASCII
+        );
     }
 }
@@ -6,12 +6,13 @@ package com.github.fabriciofx.cactoos.pdf.page;
 
 import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.Page;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.content.Contents;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
 import com.github.fabriciofx.cactoos.pdf.resource.Resources;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Int;
-import java.util.List;
 
 /**
  * Rotate envelope.
@@ -51,6 +52,11 @@ public abstract class RotateEnvelope implements Page {
         return this.origin.contents();
     }
 
+    @Override
+    public Reference reference() {
+        return this.origin.reference();
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
         final Indirect indirect = this.origin.indirect(parent[0]);
@@ -59,19 +65,19 @@ public abstract class RotateEnvelope implements Page {
             new Int(this.angle)
         );
         return new DefaultIndirect(
-            indirect.reference().number(),
-            indirect.reference().generation(),
+            this.reference().number(),
+            this.reference().generation(),
             dictionary
         );
     }
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect(parent[0]));
-        this.resources().print(indirects);
-        this.contents().print(indirects);
+        xref.add(this.indirect(parent[0]));
+        this.resources().print(xref);
+        this.contents().print(xref);
     }
 }
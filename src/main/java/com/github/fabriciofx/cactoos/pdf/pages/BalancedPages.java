@@ -0,0 +1,331 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.pages;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Page;
+import com.github.fabriciofx.cactoos.pdf.Pages;
+import com.github.fabriciofx.cactoos.pdf.Type;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.page.Format;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.type.Array;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import com.github.fabriciofx.cactoos.pdf.type.Int;
+import com.github.fabriciofx.cactoos.pdf.type.Name;
+import com.github.fabriciofx.cactoos.pdf.type.Text;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Scalar;
+import org.cactoos.list.ListEnvelope;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * Balanced Pages.
+ *
+ * <p>Pages organized as a balanced tree of intermediate pages nodes, each
+ * one with at most {@code fanout} kids, so a viewer doesn't need to parse
+ * a single huge Kids array to find a page. Pages are split evenly among
+ * the kids of a node, so leaves differ in depth by one level at most.
+ * Intermediate nodes are numbered when the tree is first used and only
+ * the root has a MediaBox, which is inherited by all pages.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.0.1
+ */
+public final class BalancedPages extends ListEnvelope<Page> implements Pages {
+    /**
+     * Object number.
+     */
+    private final int number;
+
+    /**
+     * Generation number.
+     */
+    private final int generation;
+
+    /**
+     * Pages size.
+     */
+    private final Format fmt;
+
+    /**
+     * Maximum amount of kids in a node.
+     */
+    private final int fanout;
+
+    /**
+     * Numbers of intermediate nodes, in pre-order.
+     */
+    private final Scalar<int[]> inner;
+
+    /**
+     * Amount of pages nodes of each subtree size already computed.
+     */
+    private final Map<Integer, Integer> sizes;
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param fanout Maximum amount of kids in a node (at least 2)
+     * @param kids Some Pages
+     */
+    public BalancedPages(
+        final Id id,
+        final int fanout,
+        final Page... kids
+    ) {
+        this(id, Format.A4, fanout, kids);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param format Page's size
+     * @param fanout Maximum amount of kids in a node (at least 2)
+     * @param kids Some Pages
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public BalancedPages(
+        final Id id,
+        final Format format,
+        final int fanout,
+        final Page... kids
+    ) {
+        this(id.increment(), 0, id, format, fanout, new ListOf<>(kids));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param number Object number
+     * @param generation Generation number
+     * @param id Id number
+     * @param format Page's size
+     * @param fanout Maximum amount of kids in a node (at least 2)
+     * @param kids Some Pages
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public BalancedPages(
+        final int number,
+        final int generation,
+        final Id id,
+        final Format format,
+        final int fanout,
+        final List<Page> kids
+    ) {
+        super(kids);
+        if (fanout < 2) {
+            throw new IllegalArgumentException(
+                "Fanout must be at least two"
+            );
+        }
+        this.number = number;
+        this.generation = generation;
+        this.fmt = format;
+        this.fanout = fanout;
+        this.sizes = new HashMap<>(0);
+        this.inner = new Sticky<>(
+            () -> {
+                final int[] numbers = new int[this.nodes(kids.size()) - 1];
+                for (int idx = 0; idx < numbers.length; ++idx) {
+                    numbers[idx] = id.increment();
+                }
+                return numbers;
+            }
+        );
+    }
+
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
+    @Override
+    public Indirect indirect(final int... parent) throws Exception {
+        final List<Type<?>> kids = new ArrayList<>(this.fanout);
+        this.kids(kids, new ArrayList<>(this.fanout), 0, this.size(), 0);
+        return this.node(this.number, 0, kids, this.size());
+    }
+
+    @Override
+    public void print(
+        final Xref xref,
+        final int... parent
+    ) throws Exception {
+        this.print(xref, this.number, 0, 0, this.size(), 0);
+    }
+
+    @Override
+    public Format format() {
+        return this.fmt;
+    }
+
+    /**
+     * Print a node and its subtree.
+     *
+     * @param xref Cross-reference where indirects are written
+     * @param num Node number
+     * @param parent Parent node number, or zero if it is the root
+     * @param from First page of the subtree
+     * @param upto Page after the last one of the subtree
+     * @param first Position of the first descendant node in inner numbers
+     * @throws Exception if fails
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private void print(
+        final Xref xref,
+        final int num,
+        final int parent,
+        final int from,
+        final int upto,
+        final int first
+    ) throws Exception {
+        final List<Type<?>> kids = new ArrayList<>(this.fanout);
+        final List<int[]> children = new ArrayList<>(this.fanout);
+        this.kids(kids, children, from, upto, first);
+        xref.add(this.node(num, parent, kids, upto - from));
+        for (final int[] child : children) {
+            if (child[1] - child[0] == 1) {
+                this.get(child[0]).print(xref, num);
+            } else {
+                this.print(
+                    xref,
+                    this.inner.value()[child[2]],
+                    num,
+                    child[0],
+                    child[1],
+                    child[2] + 1
+                );
+            }
+        }
+    }
+
+    /**
+     * Split the pages of a node among its kids.
+     *
+     * <p>Each child is an array with its first page, the page after its
+     * last one and its position in the inner numbers.
+     *
+     * @param kids References to the kids
+     * @param children Kids ranges
+     * @param from First page of the node
+     * @param upto Page after the last one of the node
+     * @param first Position of the first descendant node in inner numbers
+     * @throws Exception if fails
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private void kids(
+        final List<Type<?>> kids,
+        final List<int[]> children,
+        final int from,
+        final int upto,
+        final int first
+    ) throws Exception {
+        final int size = upto - from;
+        final int amount = Math.min(size, this.fanout);
+        int start = from;
+        int position = first;
+        for (int idx = 0; idx < amount; ++idx) {
+            int end = start + size / amount;
+            if (idx < size % amount) {
+                ++end;
+            }
+            if (end - start == 1) {
+                kids.add(new Text(this.get(start).reference().asString()));
+            } else {
+                kids.add(
+                    new Text(
+                        new Reference(
+                            this.inner.value()[position],
+                            0
+                        ).asString()
+                    )
+                );
+            }
+            children.add(new int[] {start, end, position});
+            if (end - start > 1) {
+                position = position + this.nodes(end - start);
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Build a pages node.
+     *
+     * @param num Node number
+     * @param parent Parent node number, or zero if it is the root
+     * @param kids References to the kids
+     * @param count Amount of pages in the subtree
+     * @return The pages node indirect
+     * @throws Exception if fails
+     */
+    private Indirect node(
+        final int num,
+        final int parent,
+        final List<Type<?>> kids,
+        final int count
+    ) throws Exception {
+        Dictionary dictionary = new Dictionary()
+            .add("Type", new Name("Pages"))
+            .add("Kids", new Array(kids))
+            .add("Count", new Int(count));
+        if (parent == 0) {
+            dictionary = dictionary.add(
+                "MediaBox",
+                new Array(
+                    new Int(0),
+                    new Int(0),
+                    new Text(this.fmt.asString())
+                )
+            );
+        } else {
+            dictionary = dictionary.add(
+                "Parent",
+                new Text(new Reference(parent, 0).asString())
+            );
+        }
+        int gen = 0;
+        if (num == this.number) {
+            gen = this.generation;
+        }
+        return new DefaultIndirect(num, gen, dictionary);
+    }
+
+    /**
+     * Amount of pages nodes needed by a subtree, including its root.
+     *
+     * <p>Kids of a node differ in size by one page at most, so there are
+     * only two subtree sizes in each level of the tree. Each size is
+     * computed once and kept.
+     *
+     * @param size Amount of pages in the subtree
+     * @return Amount of pages nodes
+     */
+    private int nodes(final int size) {
+        if (!this.sizes.containsKey(size)) {
+            int total = 1;
+            if (size > this.fanout) {
+                final int chunk = size / this.fanout;
+                final int bigger = size % this.fanout;
+                total = total + bigger * this.nodes(chunk + 1);
+                if (chunk > 1) {
+                    total = total + (this.fanout - bigger) * this.nodes(chunk);
+                }
+            }
+            this.sizes.put(size, total);
+        }
+        return this.sizes.get(size);
+    }
+}
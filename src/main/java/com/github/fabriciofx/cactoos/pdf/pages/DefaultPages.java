@@ -8,13 +8,17 @@ import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
 import com.github.fabriciofx.cactoos.pdf.Page;
 import com.github.fabriciofx.cactoos.pdf.Pages;
+import com.github.fabriciofx.cactoos.pdf.Type;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
 import com.github.fabriciofx.cactoos.pdf.page.Format;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Array;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Int;
 import com.github.fabriciofx.cactoos.pdf.type.Name;
 import com.github.fabriciofx.cactoos.pdf.type.Text;
+import java.util.ArrayList;
 import java.util.List;
 import org.cactoos.list.ListEnvelope;
 import org.cactoos.list.ListOf;
@@ -89,19 +93,23 @@ public final class DefaultPages extends ListEnvelope<Page> implements Pages {
         this.fmt = format;
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
-        Array kds = new Array();
+        final List<Type<?>> kds = new ArrayList<>(this.size());
         for (final Page page : this) {
-            final Indirect indirect = page.indirect(this.number);
-            kds = kds.add(new Text(indirect.reference().asString()));
+            kds.add(new Text(page.reference().asString()));
         }
         return new DefaultIndirect(
             this.number,
             this.generation,
             new Dictionary()
                 .add("Type", new Name("Pages"))
-                .add("Kids", kds)
+                .add("Kids", new Array(kds))
                 .add("Count", new Int(this.size()))
                 .add(
                     "MediaBox",
@@ -116,12 +124,12 @@ public final class DefaultPages extends ListEnvelope<Page> implements Pages {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
+        xref.add(this.indirect());
         for (final Page page : this) {
-            page.print(indirects, this.number);
+            page.print(xref, this.number);
         }
     }
 
@@ -0,0 +1,402 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.pages;
+
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Page;
+import com.github.fabriciofx.cactoos.pdf.content.Contents;
+import com.github.fabriciofx.cactoos.pdf.content.Lines;
+import com.github.fabriciofx.cactoos.pdf.page.DefaultPage;
+import com.github.fabriciofx.cactoos.pdf.page.Format;
+import com.github.fabriciofx.cactoos.pdf.text.Span;
+import com.github.fabriciofx.cactoos.pdf.text.Wrapped;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Pages of a long text, flowed from one page to the next.
+ *
+ * <p>The text is broken into lines as wide as the page between its left
+ * and right margins, and each page takes as many lines as fit between its
+ * top and bottom margins. Lines are found only while pages are built, so
+ * each page is given as soon as it is full and, within a
+ * {@link LazyPages}, it is printed before the rest of the text is laid
+ * out. Margins are in centimeters.
+ *
+ * <p>The text is read one paragraph at a time, up to a blank line, so
+ * only the paragraph being laid out is kept in memory. Each paragraph
+ * starts a new line. A paragraph longer than 64 K characters is laid out
+ * in chunks of whole lines of the text, each one starting a new line.
+ *
+ * <p>A text given by a reader can be iterated only once. There is no
+ * thread-safety guarantee.
+ *
+ * @since 0.0.1
+ */
+public final class Flow implements Iterable<Page> {
+    /**
+     * One centimeter in points.
+     *
+     * ONE_CM = 72 (points in 1 inch) / 2.54 (1 inch in cm)
+     */
+    private static final double ONE_CM = 28.346_456_7;
+
+    /**
+     * Max amount of characters of a paragraph laid out at once.
+     */
+    private static final int CHUNK = 64 * 1024;
+
+    /**
+     * Id.
+     */
+    private final Id id;
+
+    /**
+     * Font.
+     */
+    private final Font font;
+
+    /**
+     * Page format.
+     */
+    private final Format format;
+
+    /**
+     * Top margin.
+     */
+    private final double top;
+
+    /**
+     * Right margin.
+     */
+    private final double right;
+
+    /**
+     * Bottom margin.
+     */
+    private final double bottom;
+
+    /**
+     * Left margin.
+     */
+    private final double left;
+
+    /**
+     * Opens the text.
+     */
+    private final Scalar<Reader> text;
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param font Font
+     * @param text Text
+     */
+    public Flow(final Id id, final Font font, final Text text) {
+        this(id, font, Format.A4, 1.0, 1.0, 1.0, 1.0, text);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param font Font
+     * @param format Page format
+     * @param reader Reader of the text
+     */
+    public Flow(
+        final Id id,
+        final Font font,
+        final Format format,
+        final Reader reader
+    ) {
+        this(id, font, format, 1.0, 1.0, 1.0, 1.0, reader);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param font Font
+     * @param format Page format
+     * @param top Top margin
+     * @param right Right margin
+     * @param bottom Bottom margin
+     * @param left Left margin
+     * @param text Text
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Flow(
+        final Id id,
+        final Font font,
+        final Format format,
+        final double top,
+        final double right,
+        final double bottom,
+        final double left,
+        final Text text
+    ) {
+        this(
+            id,
+            font,
+            format,
+            new double[] {top, right, bottom, left},
+            () -> new StringReader(text.asString())
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param font Font
+     * @param format Page format
+     * @param top Top margin
+     * @param right Right margin
+     * @param bottom Bottom margin
+     * @param left Left margin
+     * @param reader Reader of the text
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Flow(
+        final Id id,
+        final Font font,
+        final Format format,
+        final double top,
+        final double right,
+        final double bottom,
+        final double left,
+        final Reader reader
+    ) {
+        this(
+            id,
+            font,
+            format,
+            new double[] {top, right, bottom, left},
+            () -> reader
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param font Font
+     * @param format Page format
+     * @param margins Top, right, bottom and left margins
+     * @param text Opens the text
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Flow(
+        final Id id,
+        final Font font,
+        final Format format,
+        final double[] margins,
+        final Scalar<Reader> text
+    ) {
+        this.id = id;
+        this.font = font;
+        this.format = format;
+        this.top = margins[0];
+        this.right = margins[1];
+        this.bottom = margins[2];
+        this.left = margins[3];
+        this.text = text;
+    }
+
+    @Override
+    public Iterator<Page> iterator() {
+        final double leading = this.font.size() * 1.20;
+        final int rows = Math.max(
+            1,
+            (int) (
+                (
+                    this.format.height()
+                        - (this.top + this.bottom) * Flow.ONE_CM
+                ) / leading
+            )
+        );
+        final Iterator<Span> lines = new Paragraphs(
+            new BufferedReader(new Unchecked<>(this.text).value()),
+            this.format.width() - (this.left + this.right) * Flow.ONE_CM
+        );
+        return new Cursor(lines, rows, leading);
+    }
+
+    /**
+     * Builds the pages, one at a time.
+     *
+     * @since 0.0.1
+     */
+    private final class Cursor implements Iterator<Page> {
+        /**
+         * Lines not laid out yet.
+         */
+        private final Iterator<Span> lines;
+
+        /**
+         * Max amount of lines in a page.
+         */
+        private final int rows;
+
+        /**
+         * Space between lines.
+         */
+        private final double leading;
+
+        /**
+         * Ctor.
+         *
+         * @param lines Lines not laid out yet
+         * @param rows Max amount of lines in a page
+         * @param leading Space between lines
+         */
+        Cursor(
+            final Iterator<Span> lines,
+            final int rows,
+            final double leading
+        ) {
+            this.lines = lines;
+            this.rows = rows;
+            this.leading = leading;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.lines.hasNext();
+        }
+
+        @Override
+        public Page next() {
+            if (!this.lines.hasNext()) {
+                throw new NoSuchElementException("there are no more pages");
+            }
+            final List<Span> page = new ArrayList<>(this.rows);
+            while (page.size() < this.rows && this.lines.hasNext()) {
+                page.add(this.lines.next());
+            }
+            return new DefaultPage(
+                Flow.this.id,
+                new Contents(
+                    new Lines(
+                        Flow.this.id,
+                        Flow.this.font,
+                        Flow.this.left * Flow.ONE_CM,
+                        Flow.this.format.height()
+                            - Flow.this.top * Flow.ONE_CM,
+                        this.leading,
+                        page
+                    )
+                )
+            );
+        }
+    }
+
+    /**
+     * Lines of the paragraphs of the text, read one paragraph at a time.
+     *
+     * @since 0.0.1
+     */
+    private final class Paragraphs implements Iterator<Span> {
+        /**
+         * Reader of the text.
+         */
+        private final BufferedReader reader;
+
+        /**
+         * Max line width in points.
+         */
+        private final double width;
+
+        /**
+         * Lines of the current paragraph.
+         */
+        private Iterator<Span> lines;
+
+        /**
+         * Whether any line was given.
+         */
+        private boolean given;
+
+        /**
+         * Ctor.
+         *
+         * @param reader Reader of the text
+         * @param width Max line width in points
+         */
+        Paragraphs(final BufferedReader reader, final double width) {
+            this.reader = reader;
+            this.width = width;
+            this.lines = Collections.emptyIterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!this.lines.hasNext()) {
+                final String paragraph = new Unchecked<>(this::paragraph)
+                    .value();
+                if (paragraph == null) {
+                    if (!this.given) {
+                        this.given = true;
+                        this.lines = new Wrapped("", Flow.this.font, this.width)
+                            .iterator();
+                    }
+                    break;
+                }
+                this.lines = new Wrapped(paragraph, Flow.this.font, this.width)
+                    .iterator();
+            }
+            return this.lines.hasNext();
+        }
+
+        @Override
+        public Span next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("there are no more lines");
+            }
+            this.given = true;
+            return this.lines.next();
+        }
+
+        /**
+         * Read the next paragraph: its lines up to a blank line, or up to
+         * the max amount of characters laid out at once.
+         *
+         * @return The paragraph or null if there are no more words
+         * @throws IOException if fails
+         */
+        private String paragraph() throws IOException {
+            final StringBuilder paragraph = new StringBuilder();
+            String line = this.reader.readLine();
+            while (line != null && line.isBlank()) {
+                line = this.reader.readLine();
+            }
+            while (line != null && !line.isBlank()) {
+                paragraph.append(line).append('\n');
+                if (paragraph.length() >= Flow.CHUNK) {
+                    break;
+                }
+                line = this.reader.readLine();
+            }
+            String result = null;
+            if (paragraph.length() > 0) {
+                result = paragraph.toString();
+            }
+            return result;
+        }
+    }
+}
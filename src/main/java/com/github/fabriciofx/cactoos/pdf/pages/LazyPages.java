@@ -0,0 +1,239 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.pages;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Page;
+import com.github.fabriciofx.cactoos.pdf.Pages;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.Type;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.page.Format;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.type.Array;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import com.github.fabriciofx.cactoos.pdf.type.Int;
+import com.github.fabriciofx.cactoos.pdf.type.Name;
+import com.github.fabriciofx.cactoos.pdf.type.Text;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Lazy Pages.
+ *
+ * <p>Pages taken from an {@link Iterable} (a database cursor, for
+ * instance). When printed, each page is built, printed and released before
+ * the next one, so only the numbers of the pages are kept in memory, two
+ * ints per page. The pages object itself is printed after its kids, once
+ * their amount is known, and its references are written from those numbers.
+ *
+ * <p>Each print iterates the pages again. Its indirect can't be built
+ * without printing the pages, because a page built again may take new
+ * object numbers, so {@link #indirect(int...)} is not supported.
+ *
+ * @since 0.0.1
+ */
+public final class LazyPages implements Pages {
+    /**
+     * Object number.
+     */
+    private final int number;
+
+    /**
+     * Generation number.
+     */
+    private final int generation;
+
+    /**
+     * Pages size.
+     */
+    private final Format fmt;
+
+    /**
+     * Kids.
+     */
+    private final Iterable<Page> kids;
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param kids Pages to be built one by one
+     */
+    public LazyPages(final Id id, final Iterable<Page> kids) {
+        this(id, Format.A4, kids);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param format Page's size
+     * @param kids Pages to be built one by one
+     */
+    public LazyPages(
+        final Id id,
+        final Format format,
+        final Iterable<Page> kids
+    ) {
+        this(id.increment(), 0, format, kids);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param number Object number
+     * @param generation Generation number
+     * @param format Page's size
+     * @param kids Pages to be built one by one
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public LazyPages(
+        final int number,
+        final int generation,
+        final Format format,
+        final Iterable<Page> kids
+    ) {
+        this.number = number;
+        this.generation = generation;
+        this.fmt = format;
+        this.kids = kids;
+    }
+
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
+    @Override
+    public Indirect indirect(final int... parent) throws Exception {
+        throw new UnsupportedOperationException(
+            "lazy pages have no indirect until their kids are printed"
+        );
+    }
+
+    @Override
+    public void print(
+        final Xref xref,
+        final int... parent
+    ) throws Exception {
+        int[] numbers = new int[16];
+        int size = 0;
+        for (final Page page : this.kids) {
+            page.print(xref, this.number);
+            if (size == numbers.length) {
+                numbers = Arrays.copyOf(numbers, size * 2);
+            }
+            final Reference ref = page.reference();
+            numbers[size] = ref.number();
+            numbers[size + 1] = ref.generation();
+            size = size + 2;
+        }
+        xref.add(this.indirect(new Kids(numbers, size)));
+    }
+
+    @Override
+    public Format format() {
+        return this.fmt;
+    }
+
+    /**
+     * Build the pages indirect.
+     *
+     * @param kds Kids references
+     * @return The pages indirect
+     * @throws Exception if fails
+     */
+    private Indirect indirect(final Kids kds) throws Exception {
+        return new DefaultIndirect(
+            this.number,
+            this.generation,
+            new Dictionary()
+                .add("Type", new Name("Pages"))
+                .add("Kids", kds)
+                .add("Count", new Int(kds.count()))
+                .add(
+                    "MediaBox",
+                    new Array(
+                        new Int(0),
+                        new Int(0),
+                        new Text(this.fmt.asString())
+                    )
+                )
+        );
+    }
+
+    /**
+     * Array of the kids references, written from their numbers.
+     *
+     * @since 0.0.1
+     */
+    private static final class Kids implements Type<Type<?>> {
+        /**
+         * Object and generation numbers of each kid.
+         */
+        private final int[] numbers;
+
+        /**
+         * Amount of numbers used.
+         */
+        private final int size;
+
+        /**
+         * Ctor.
+         *
+         * @param numbers Object and generation numbers of each kid
+         * @param size Amount of numbers used
+         */
+        Kids(final int[] numbers, final int size) {
+            this.numbers = numbers;
+            this.size = size;
+        }
+
+        /**
+         * Amount of kids.
+         *
+         * @return The amount
+         */
+        int count() {
+            return this.size / 2;
+        }
+
+        @Override
+        public Type<?> value() {
+            return this;
+        }
+
+        @Override
+        public byte[] asBytes() throws Exception {
+            final Sink sink = new ByteSink(this.size * 6 + 2);
+            this.writeTo(sink);
+            return sink.toByteArray();
+        }
+
+        @Override
+        public String asString() throws Exception {
+            return new String(this.asBytes(), StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public void writeTo(final Sink sink) {
+            sink.append((byte) '[');
+            for (int idx = 0; idx < this.size; idx = idx + 2) {
+                if (idx > 0) {
+                    sink.append((byte) ' ');
+                }
+                sink.append(this.numbers[idx])
+                    .append((byte) ' ')
+                    .append(this.numbers[idx + 1])
+                    .append(" R");
+            }
+            sink.append((byte) ']');
+        }
+    }
+}
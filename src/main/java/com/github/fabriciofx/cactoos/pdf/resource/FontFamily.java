@@ -6,18 +6,20 @@ package com.github.fabriciofx.cactoos.pdf.resource;
 
 import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Referenced;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Name;
-import java.util.List;
 
 /**
  * Font Family.
  *
  * @since 0.0.1
  */
-public final class FontFamily implements Resource {
+public final class FontFamily implements Resource, Referenced {
     /**
      * Object number.
      */
@@ -74,6 +76,11 @@ public final class FontFamily implements Resource {
         this.subtype = subtype;
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
         return new DefaultIndirect(
@@ -88,12 +95,12 @@ public final class FontFamily implements Resource {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
         final Indirect indirect = this.indirect();
-        if (!indirects.contains(indirect)) {
-            indirects.add(indirect);
+        if (!xref.contains(indirect)) {
+            xref.add(indirect);
         }
     }
 }
@@ -6,8 +6,11 @@ package com.github.fabriciofx.cactoos.pdf.resource;
 
 import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Referenced;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import java.util.List;
 import org.cactoos.list.ListEnvelope;
@@ -19,7 +22,7 @@ import org.cactoos.list.ListOf;
  * @since 0.0.1
  */
 public final class Resources extends ListEnvelope<Resource>
-    implements Resource {
+    implements Resource, Referenced {
     /**
      * Object number.
      */
@@ -75,6 +78,11 @@ public final class Resources extends ListEnvelope<Resource>
         this.generation = generation;
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
         final List<Indirect> indirects = new ListOf<>();
@@ -94,12 +102,12 @@ public final class Resources extends ListEnvelope<Resource>
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
+        xref.add(this.indirect());
         for (final Resource resource : this) {
-            resource.print(indirects);
+            resource.print(xref);
         }
     }
 }
@@ -6,19 +6,21 @@ package com.github.fabriciofx.cactoos.pdf.resource;
 
 import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Referenced;
 import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.content.Image;
 import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Text;
-import java.util.List;
 
 /**
  * XObject.
  *
  * @since 0.0.1
  */
-public final class XObject implements Resource {
+public final class XObject implements Resource, Referenced {
     /**
      * Object number.
      */
@@ -57,9 +59,13 @@ public final class XObject implements Resource {
         this.image = image;
     }
 
+    @Override
+    public Reference reference() {
+        return new Reference(this.number, this.generation);
+    }
+
     @Override
     public Indirect indirect(final int... parent) throws Exception {
-        final Indirect indirect = this.image.format().indirect();
         return new DefaultIndirect(
             this.number,
             this.generation,
@@ -68,7 +74,7 @@ public final class XObject implements Resource {
                     "XObject",
                     new Dictionary().add(
                         this.image.name(),
-                        new Text(indirect.reference().asString())
+                        new Text(this.image.format().reference().asString())
                     )
                 )
         );
@@ -76,9 +82,9 @@ public final class XObject implements Resource {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        indirects.add(this.indirect());
+        xref.add(this.indirect());
     }
 }
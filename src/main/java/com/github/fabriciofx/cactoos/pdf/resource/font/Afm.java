@@ -0,0 +1,227 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.resource.font;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+import org.cactoos.Input;
+import org.cactoos.Scalar;
+
+/**
+ * Metrics read from an Adobe Font Metrics (AFM) file.
+ *
+ * <p>Character widths ({@code C}, {@code WX}) and kerning pairs
+ * ({@code KPX}) are read, everything else is skipped. A font in the Adobe
+ * standard encoding has its glyphs placed, by name, at their
+ * WinAnsiEncoding codes, and its characters are measured at their
+ * {@link WinAnsi} codes; any other font has them at their own codes. A
+ * code without a glyph is as wide as a space. A pair given twice keeps
+ * its last amount.
+ *
+ * @since 0.0.1
+ */
+public final class Afm implements Scalar<Metrics> {
+    /**
+     * Glyph name of each WinAnsiEncoding code, or "-" if it has none.
+     */
+    private static final String[] WINANSI = String.join(
+        "",
+        "- - - - - - - - - - - - - - - - - - - - - - - - - - - - ",
+        "- - - - space exclam quotedbl numbersign dollar percent ",
+        "ampersand quotesingle parenleft parenright asterisk ",
+        "plus comma hyphen period slash zero one two three four ",
+        "five six seven eight nine colon semicolon less equal ",
+        "greater question at A B C D E F G H I J K L M N O P Q R ",
+        "S T U V W X Y Z bracketleft backslash bracketright ",
+        "asciicircum underscore grave a b c d e f g h i j k l m ",
+        "n o p q r s t u v w x y z braceleft bar braceright ",
+        "asciitilde - Euro - quotesinglbase florin quotedblbase ",
+        "ellipsis dagger daggerdbl circumflex perthousand Scaron ",
+        "guilsinglleft OE - Zcaron - - quoteleft quoteright ",
+        "quotedblleft quotedblright bullet endash emdash tilde ",
+        "trademark scaron guilsinglright oe - zcaron Ydieresis ",
+        "space exclamdown cent sterling currency yen brokenbar ",
+        "section dieresis copyright ordfeminine guillemotleft ",
+        "logicalnot hyphen registered macron degree plusminus ",
+        "twosuperior threesuperior acute mu paragraph ",
+        "periodcentered cedilla onesuperior ordmasculine ",
+        "guillemotright onequarter onehalf threequarters ",
+        "questiondown Agrave Aacute Acircumflex Atilde Adieresis ",
+        "Aring AE Ccedilla Egrave Eacute Ecircumflex Edieresis ",
+        "Igrave Iacute Icircumflex Idieresis Eth Ntilde Ograve ",
+        "Oacute Ocircumflex Otilde Odieresis multiply Oslash ",
+        "Ugrave Uacute Ucircumflex Udieresis Yacute Thorn ",
+        "germandbls agrave aacute acircumflex atilde adieresis ",
+        "aring ae ccedilla egrave eacute ecircumflex edieresis ",
+        "igrave iacute icircumflex idieresis eth ntilde ograve ",
+        "oacute ocircumflex otilde odieresis divide oslash ",
+        "ugrave uacute ucircumflex udieresis yacute thorn ",
+        "ydieresis"
+    ).split(" ");
+
+    /**
+     * AFM file.
+     */
+    private final Input input;
+
+    /**
+     * Ctor.
+     *
+     * @param input AFM file
+     */
+    public Afm(final Input input) {
+        this.input = input;
+    }
+
+    @Override
+    public Metrics value() throws Exception {
+        boolean named = false;
+        final short[] widths = new short[Afm.WINANSI.length];
+        final boolean[] known = new boolean[widths.length];
+        final Map<String, Short> glyphs = new HashMap<>();
+        final Map<String, Character> codes = new HashMap<>();
+        final Map<String, String[]> pairs = new LinkedHashMap<>();
+        try (
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(
+                    this.input.stream(),
+                    StandardCharsets.ISO_8859_1
+                )
+            )
+        ) {
+            String line = reader.readLine();
+            while (line != null) {
+                final String[] words = line.trim().split("\\s+");
+                if ("EncodingScheme".equals(words[0])) {
+                    named = "AdobeStandardEncoding".equals(words[1]);
+                } else if ("C".equals(words[0]) || "CH".equals(words[0])) {
+                    final Map<String, String> fields = Afm.fields(line);
+                    final int code = Afm.code(fields);
+                    final short width = Short.parseShort(
+                        fields.getOrDefault("WX", fields.get("W0X"))
+                    );
+                    final String name = fields.get("N");
+                    if (named && name != null) {
+                        glyphs.put(name, width);
+                    } else if (!named && code >= 0 && code < widths.length) {
+                        widths[code] = width;
+                        known[code] = true;
+                        if (name != null) {
+                            codes.putIfAbsent(name, (char) code);
+                        }
+                    }
+                } else if ("KPX".equals(words[0])) {
+                    pairs.put(
+                        String.join(" ", words[1], words[2]),
+                        words
+                    );
+                }
+                line = reader.readLine();
+            }
+        }
+        if (named) {
+            for (int code = 0; code < widths.length; ++code) {
+                final Short width = glyphs.get(Afm.WINANSI[code]);
+                if (width != null) {
+                    widths[code] = width;
+                    known[code] = true;
+                    codes.putIfAbsent(Afm.WINANSI[code], (char) code);
+                }
+            }
+        }
+        final short missing = widths[' '];
+        for (int code = 0; code < widths.length; ++code) {
+            if (!known[code]) {
+                widths[code] = missing;
+            }
+        }
+        final IntUnaryOperator encoding;
+        if (named) {
+            encoding = new WinAnsi();
+        } else {
+            encoding = chr -> chr;
+        }
+        return new Metrics(
+            widths,
+            missing,
+            Afm.kerning(pairs, codes),
+            encoding
+        );
+    }
+
+    /**
+     * Build the kerning of the pairs whose glyphs have codes.
+     *
+     * @param pairs Kerning pairs, as the words of their lines
+     * @param codes Code of each glyph name
+     * @return The kerning
+     */
+    private static Kerning kerning(
+        final Map<String, String[]> pairs,
+        final Map<String, Character> codes
+    ) {
+        final char[] lefts = new char[pairs.size()];
+        final char[] rights = new char[pairs.size()];
+        final short[] amounts = new short[pairs.size()];
+        int count = 0;
+        for (final String[] pair : pairs.values()) {
+            final Character left = codes.get(pair[1]);
+            final Character right = codes.get(pair[2]);
+            if (left != null && right != null) {
+                lefts[count] = left;
+                rights[count] = right;
+                amounts[count] = Short.parseShort(pair[3]);
+                ++count;
+            }
+        }
+        return new Kerning(
+            Arrays.copyOf(lefts, count),
+            Arrays.copyOf(rights, count),
+            Arrays.copyOf(amounts, count)
+        );
+    }
+
+    /**
+     * Fields of a character metrics line, such as "C 32 ; WX 278 ; N space".
+     *
+     * @param line Line
+     * @return Value of each field by its key
+     */
+    private static Map<String, String> fields(final String line) {
+        final Map<String, String> fields = new HashMap<>();
+        for (final String field : line.split(";")) {
+            final String[] words = field.trim().split("\\s+", 2);
+            if (words.length == 2) {
+                fields.put(words[0], words[1].trim());
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Code of a character metrics line.
+     *
+     * @param fields Fields of the line
+     * @return The code, or -1 if it is not encoded
+     */
+    private static int code(final Map<String, String> fields) {
+        final int code;
+        if (fields.containsKey("CH")) {
+            code = Integer.parseInt(
+                fields.get("CH").replaceAll("[<>]", ""),
+                16
+            );
+        } else {
+            code = Integer.parseInt(fields.get("C"));
+        }
+        return code;
+    }
+}
@@ -5,7 +5,6 @@
 package com.github.fabriciofx.cactoos.pdf.resource.font;
 
 import com.github.fabriciofx.cactoos.pdf.Id;
-import com.github.fabriciofx.cactoos.pdf.resource.FontFamily;
 
 /**
  * Courier.
@@ -31,15 +30,6 @@ public final class Courier extends FontEnvelope {
      * @param size Font size in points
      */
     public Courier(final int number, final int generation, final int size) {
-        super(
-            number,
-            new FontFamily(number, generation, "Courier", "Type1"),
-            size
-        );
-    }
-
-    @Override
-    public int width(final char chr) {
-        return 600;
+        super(number, generation, Face.COURIER, size);
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.resource.font;
+
+import org.cactoos.Scalar;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * The 14 standard Type 1 faces, which every PDF reader has.
+ *
+ * <p>The metrics of a face are read from its AFM file on the classpath,
+ * under {@code com/github/fabriciofx/cactoos/pdf/resource/font/afm}, the
+ * first time they are needed, and then shared by every font of that face
+ * whatever its size. The AFM files of Adobe for all 14 faces come with
+ * the library. The widths of the words measured last with a face are kept
+ * in a {@link WidthCache}, shared by its fonts too.
+ *
+ * @since 0.0.1
+ */
+public enum Face {
+    /**
+     * Courier.
+     */
+    COURIER("Courier"),
+
+    /**
+     * Courier Bold.
+     */
+    COURIER_BOLD("Courier-Bold"),
+
+    /**
+     * Courier Oblique.
+     */
+    COURIER_OBLIQUE("Courier-Oblique"),
+
+    /**
+     * Courier Bold Oblique.
+     */
+    COURIER_BOLD_OBLIQUE("Courier-BoldOblique"),
+
+    /**
+     * Helvetica.
+     */
+    HELVETICA("Helvetica"),
+
+    /**
+     * Helvetica Bold.
+     */
+    HELVETICA_BOLD("Helvetica-Bold"),
+
+    /**
+     * Helvetica Oblique.
+     */
+    HELVETICA_OBLIQUE("Helvetica-Oblique"),
+
+    /**
+     * Helvetica Bold Oblique.
+     */
+    HELVETICA_BOLD_OBLIQUE("Helvetica-BoldOblique"),
+
+    /**
+     * Times Roman.
+     */
+    TIMES_ROMAN("Times-Roman"),
+
+    /**
+     * Times Bold.
+     */
+    TIMES_BOLD("Times-Bold"),
+
+    /**
+     * Times Italic.
+     */
+    TIMES_ITALIC("Times-Italic"),
+
+    /**
+     * Times Bold Italic.
+     */
+    TIMES_BOLD_ITALIC("Times-BoldItalic"),
+
+    /**
+     * Symbol.
+     */
+    SYMBOL("Symbol"),
+
+    /**
+     * Zapf Dingbats.
+     */
+    ZAPF_DINGBATS("ZapfDingbats");
+
+    /**
+     * Font name.
+     */
+    private final String base;
+
+    /**
+     * Metrics, read once.
+     */
+    private final Scalar<Metrics> metrics;
+
+    /**
+     * Widths of the words measured last.
+     */
+    private final WidthCache cache;
+
+    /**
+     * Metrics already read, so they are measured without a lock.
+     *
+     * <p>Metrics are immutable, so they are seen whole by any thread even
+     * though this field is not volatile.
+     */
+    private Metrics loaded;
+
+    /**
+     * Ctor.
+     *
+     * @param base Font name
+     */
+    Face(final String base) {
+        this.base = base;
+        this.metrics = new Synced<>(
+            new Sticky<>(
+                () -> new Afm(
+                    new ResourceOf(
+                        String.join(
+                            "",
+                            "com/github/fabriciofx/cactoos/pdf/",
+                            "resource/font/afm/",
+                            base,
+                            ".afm"
+                        ),
+                        Face.class
+                    )
+                ).value()
+            )
+        );
+        this.cache = new WidthCache(
+            (text, start, end) -> this.metrics().width(text, start, end)
+        );
+    }
+
+    /**
+     * Font name, as the base font of a PDF font.
+     *
+     * @return The font name
+     */
+    public String base() {
+        return this.base;
+    }
+
+    /**
+     * Metrics.
+     *
+     * @return The metrics of the face
+     */
+    public Metrics metrics() {
+        Metrics mtrcs = this.loaded;
+        if (mtrcs == null) {
+            mtrcs = this.load();
+        }
+        return mtrcs;
+    }
+
+    /**
+     * Widths of the words measured last with this face, by any font.
+     *
+     * @return The widths
+     */
+    public WidthCache widths() {
+        return this.cache;
+    }
+
+    /**
+     * Read the metrics, the first time they are needed.
+     *
+     * @return The metrics of the face
+     */
+    private Metrics load() {
+        final Metrics mtrcs = new Unchecked<>(this.metrics).value();
+        this.loaded = mtrcs;
+        return mtrcs;
+    }
+}
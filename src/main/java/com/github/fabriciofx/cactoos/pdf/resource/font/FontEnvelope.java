@@ -6,11 +6,11 @@ package com.github.fabriciofx.cactoos.pdf.resource.font;
 
 import com.github.fabriciofx.cactoos.pdf.Font;
 import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.indirect.NoReferenceIndirect;
 import com.github.fabriciofx.cactoos.pdf.resource.FontFamily;
 import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
 import com.github.fabriciofx.cactoos.pdf.type.Text;
-import java.util.List;
 import org.cactoos.text.FormattedText;
 import org.cactoos.text.UncheckedText;
 
@@ -36,22 +36,30 @@ public abstract class FontEnvelope implements Font {
      */
     private final int points;
 
+    /**
+     * Face, which measures the characters.
+     */
+    private final Face face;
+
     /**
      * Ctor.
      *
      * @param number Object number
-     * @param family Font family
+     * @param generation Generation number
+     * @param face Face
      * @param size Font size
      * @checkstyle ParameterNumberCheck (10 lines)
      */
     public FontEnvelope(
         final int number,
-        final FontFamily family,
+        final int generation,
+        final Face face,
         final int size
     ) {
         this.number = number;
-        this.family = family;
+        this.family = new FontFamily(number, generation, face.base(), "Type1");
         this.points = size;
+        this.face = face;
     }
 
     @Override
@@ -68,19 +76,28 @@ public abstract class FontEnvelope implements Font {
 
     @Override
     public int width(final char chr) {
-        return 1;
+        return this.face.metrics().width(chr);
+    }
+
+    @Override
+    public int width(final CharSequence text, final int start, final int end) {
+        return this.face.widths().width(text, start, end);
+    }
+
+    @Override
+    public int kerning(final char left, final char right) {
+        return this.face.metrics().kerning(left, right);
     }
 
     @Override
     public Indirect indirect(final int... parent) throws Exception {
-        final Indirect indirect = this.family.indirect();
         return new NoReferenceIndirect(
             new Dictionary()
                 .add(
                     "Font",
                     new Dictionary().add(
                         this.name(),
-                        new Text(indirect.reference().asString())
+                        new Text(this.family.reference().asString())
                     )
                 )
         );
@@ -88,9 +105,9 @@ public abstract class FontEnvelope implements Font {
 
     @Override
     public void print(
-        final List<Indirect> indirects,
+        final Xref xref,
         final int... parent
     ) throws Exception {
-        this.family.print(indirects);
+        this.family.print(xref);
     }
 }
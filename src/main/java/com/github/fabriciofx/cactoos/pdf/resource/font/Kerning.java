@@ -0,0 +1,261 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.resource.font;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kerning pairs of a font, kept in a perfect hash.
+ *
+ * <p>Pairs are hashed and displaced: each pair falls in a bucket, and
+ * every bucket gets the displacement that sends all its pairs to free
+ * slots. A lookup is then two hashes and a single probe, with no chains
+ * and no collisions, and the whole index is three flat arrays.
+ *
+ * <p>Characters are the codes of the font. A pair given more than once
+ * keeps its first amount.
+ *
+ * @since 0.0.1
+ */
+public final class Kerning {
+    /**
+     * Slots of a table with no pairs.
+     */
+    private static final int EMPTY = 1;
+
+    /**
+     * Displacement of each bucket.
+     */
+    private final int[] displacements;
+
+    /**
+     * Pair of each slot, the left character in the high half.
+     */
+    private final int[] pairs;
+
+    /**
+     * Kerning amount of each slot.
+     */
+    private final short[] amounts;
+
+    /**
+     * Ctor.
+     *
+     * @param lefts Left character of each pair
+     * @param rights Right character of each pair
+     * @param amounts Kerning amount of each pair
+     */
+    public Kerning(
+        final char[] lefts,
+        final char[] rights,
+        final short[] amounts
+    ) {
+        this(Kerning.merged(lefts, rights, amounts));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param merged Amount of each pair, given once
+     */
+    private Kerning(final Map<Integer, Short> merged) {
+        final int count = merged.size();
+        final int[] keys = new int[count];
+        final short[] values = new short[count];
+        int next = 0;
+        for (final Map.Entry<Integer, Short> entry : merged.entrySet()) {
+            keys[next] = entry.getKey();
+            values[next] = entry.getValue();
+            ++next;
+        }
+        int slots = Kerning.EMPTY;
+        while (slots < count * 2) {
+            slots = slots * 2;
+        }
+        this.displacements = new int[count / 2 + 1];
+        this.pairs = new int[slots];
+        this.amounts = new short[slots];
+        final List<List<Integer>> buckets = new ArrayList<>(
+            this.displacements.length
+        );
+        for (int idx = 0; idx < this.displacements.length; ++idx) {
+            buckets.add(new ArrayList<>(2));
+        }
+        for (int idx = 0; idx < count; ++idx) {
+            buckets.get(this.bucket(keys[idx])).add(idx);
+        }
+        final Integer[] order = new Integer[buckets.size()];
+        for (int idx = 0; idx < order.length; ++idx) {
+            order[idx] = idx;
+        }
+        Arrays.sort(order, (one, two) -> buckets.get(two).size()
+            - buckets.get(one).size());
+        final boolean[] used = new boolean[slots];
+        for (final int bucket : order) {
+            this.place(bucket, buckets.get(bucket), used, keys);
+        }
+        for (int idx = 0; idx < count; ++idx) {
+            this.amounts[this.slot(keys[idx])] = values[idx];
+        }
+    }
+
+    /**
+     * Kerning between two characters.
+     *
+     * @param left Left character
+     * @param right Right character
+     * @return The amount added to the width of the left one, in thousandths
+     *  of the font size
+     */
+    public int amount(final char left, final char right) {
+        final int pair = Kerning.pair(left, right);
+        final int slot = this.slot(pair);
+        final int amount;
+        if (this.pairs[slot] == pair) {
+            amount = this.amounts[slot];
+        } else {
+            amount = 0;
+        }
+        return amount;
+    }
+
+    /**
+     * Whether there are no pairs at all.
+     *
+     * @return True if there is no kerning
+     */
+    public boolean isEmpty() {
+        return this.pairs.length == Kerning.EMPTY;
+    }
+
+    /**
+     * Find a displacement that sends all pairs of a bucket to free slots.
+     *
+     * @param bucket Bucket
+     * @param members Indexes of the pairs in the bucket
+     * @param used Slots already taken
+     * @param keys Each pair, as a single key
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private void place(
+        final int bucket,
+        final List<Integer> members,
+        final boolean[] used,
+        final int[] keys
+    ) {
+        final int[] taken = new int[members.size()];
+        int displacement = 0;
+        boolean placed = members.isEmpty();
+        while (!placed) {
+            placed = true;
+            for (int idx = 0; idx < taken.length; ++idx) {
+                final int member = members.get(idx);
+                taken[idx] = Kerning.hash(keys[member], displacement)
+                    & this.pairs.length - 1;
+                placed = placed && !used[taken[idx]]
+                    && !Kerning.repeated(taken, idx);
+            }
+            if (!placed) {
+                ++displacement;
+            }
+        }
+        for (int idx = 0; idx < taken.length; ++idx) {
+            final int member = members.get(idx);
+            used[taken[idx]] = true;
+            this.pairs[taken[idx]] = keys[member];
+        }
+        this.displacements[bucket] = displacement;
+    }
+
+    /**
+     * Slot of a pair.
+     *
+     * @param pair Pair
+     * @return The slot
+     */
+    private int slot(final int pair) {
+        return Kerning.hash(pair, this.displacements[this.bucket(pair)])
+            & this.pairs.length - 1;
+    }
+
+    /**
+     * Bucket of a pair.
+     *
+     * @param pair Pair
+     * @return The bucket
+     */
+    private int bucket(final int pair) {
+        return (Kerning.hash(pair, -1) >>> 1) % this.displacements.length;
+    }
+
+    /**
+     * Whether a slot was already taken by an earlier pair of the bucket.
+     *
+     * @param taken Slots taken by the pairs of the bucket
+     * @param last Index of the slot to check
+     * @return True if it is repeated
+     */
+    private static boolean repeated(final int[] taken, final int last) {
+        boolean repeated = false;
+        for (int idx = 0; idx < last; ++idx) {
+            repeated = repeated || taken[idx] == taken[last];
+        }
+        return repeated;
+    }
+
+    /**
+     * Amount of each pair, keeping the first amount of a repeated pair.
+     *
+     * @param lefts Left character of each pair
+     * @param rights Right character of each pair
+     * @param amounts Kerning amount of each pair
+     * @return The amounts by pair
+     */
+    private static Map<Integer, Short> merged(
+        final char[] lefts,
+        final char[] rights,
+        final short[] amounts
+    ) {
+        final Map<Integer, Short> merged = new LinkedHashMap<>(
+            lefts.length * 2
+        );
+        for (int idx = 0; idx < lefts.length; ++idx) {
+            merged.putIfAbsent(
+                Kerning.pair(lefts[idx], rights[idx]),
+                amounts[idx]
+            );
+        }
+        return merged;
+    }
+
+    /**
+     * Two characters as a single key.
+     *
+     * @param left Left character
+     * @param right Right character
+     * @return The key
+     */
+    private static int pair(final char left, final char right) {
+        return left << 16 | right;
+    }
+
+    /**
+     * Hash a pair with a seed, mixing its bits as MurmurHash3 does.
+     *
+     * @param pair Pair
+     * @param seed Seed
+     * @return The hash
+     */
+    private static int hash(final int pair, final int seed) {
+        int hash = pair ^ seed * 0x9E37_79B9;
+        hash = (hash ^ hash >>> 16) * 0x85EB_CA6B;
+        hash = (hash ^ hash >>> 13) * 0xC2B2_AE35;
+        return hash ^ hash >>> 16;
+    }
+}
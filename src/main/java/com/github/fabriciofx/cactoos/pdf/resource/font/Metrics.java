@@ -0,0 +1,154 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.resource.font;
+
+import com.github.fabriciofx.cactoos.pdf.Widths;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Metrics of a font: the width of each character and its kerning pairs.
+ *
+ * <p>Widths are in thousandths of the font size, one for each of the 256
+ * character codes. A character is measured at its code in the encoding
+ * of the font, and a character without a code has the missing width.
+ * A part of a text is measured kerned.
+ *
+ * @since 0.0.1
+ */
+public final class Metrics implements Widths {
+    /**
+     * Width of each character code.
+     */
+    private final short[] widths;
+
+    /**
+     * Width of a character without metrics.
+     */
+    private final int missing;
+
+    /**
+     * Kerning pairs, by character codes.
+     */
+    private final Kerning kerning;
+
+    /**
+     * Code of each character, or -1 if it has none.
+     */
+    private final IntUnaryOperator codes;
+
+    /**
+     * Ctor.
+     *
+     * <p>Characters are their own codes and there is no kerning.
+     *
+     * @param widths Width of each character code
+     * @param missing Width of a character without metrics
+     */
+    public Metrics(final short[] widths, final int missing) {
+        this(
+            widths,
+            missing,
+            new Kerning(new char[0], new char[0], new short[0]),
+            chr -> chr
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param widths Width of each character code
+     * @param missing Width of a character without metrics
+     * @param kerning Kerning pairs, by character codes
+     * @param codes Code of each character, or -1 if it has none
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Metrics(
+        final short[] widths,
+        final int missing,
+        final Kerning kerning,
+        final IntUnaryOperator codes
+    ) {
+        this.widths = widths;
+        this.missing = missing;
+        this.kerning = kerning;
+        this.codes = codes;
+    }
+
+    /**
+     * Width of a character.
+     *
+     * @param chr Character
+     * @return The width in thousandths of the font size
+     */
+    public int width(final char chr) {
+        return this.measure(this.codes.applyAsInt(chr));
+    }
+
+    /**
+     * Width of a part of a text, kerned.
+     *
+     * @param text Text
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return The width in thousandths of the font size
+     */
+    @Override
+    public int width(final CharSequence text, final int start, final int end) {
+        int width = 0;
+        if (this.kerning.isEmpty()) {
+            for (int idx = start; idx < end; ++idx) {
+                width = width + this.width(text.charAt(idx));
+            }
+        } else {
+            int prev = -1;
+            for (int idx = start; idx < end; ++idx) {
+                final int code = this.codes.applyAsInt(text.charAt(idx));
+                width = width + this.measure(code);
+                if (prev >= 0 && code >= 0) {
+                    width = width + this.kerning.amount(
+                        (char) prev,
+                        (char) code
+                    );
+                }
+                prev = code;
+            }
+        }
+        return width;
+    }
+
+    /**
+     * Kerning between two characters.
+     *
+     * @param left Left character
+     * @param right Right character
+     * @return The amount added to the width of the left one, in thousandths
+     *  of the font size
+     */
+    public int kerning(final char left, final char right) {
+        final int first = this.codes.applyAsInt(left);
+        final int second = this.codes.applyAsInt(right);
+        int amount = 0;
+        if (first >= 0 && second >= 0) {
+            amount = this.kerning.amount((char) first, (char) second);
+        }
+        return amount;
+    }
+
+    /**
+     * Width of a character code.
+     *
+     * @param code Character code, or -1 if the character has none
+     * @return The width in thousandths of the font size
+     */
+    private int measure(final int code) {
+        final int width;
+        if (code >= 0 && code < this.widths.length) {
+            width = this.widths[code];
+        } else {
+            width = this.missing;
+        }
+        return width;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.resource.font;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+
+/**
+ * Any of the 14 standard Type 1 fonts, such as Times Bold.
+ *
+ * @since 0.0.1
+ */
+public final class StandardFont extends FontEnvelope {
+    /**
+     * Ctor.
+     *
+     * @param id Id number
+     * @param face Face
+     * @param size Font size in points
+     */
+    public StandardFont(final Id id, final Face face, final int size) {
+        this(id.increment(), 0, face, size);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param number Object number
+     * @param generation Generation number
+     * @param face Face
+     * @param size Font size in points
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public StandardFont(
+        final int number,
+        final int generation,
+        final Face face,
+        final int size
+    ) {
+        super(number, generation, face, size);
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.resource.font;
+
+import com.github.fabriciofx.cactoos.pdf.Widths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Widths which keep the words they measured last.
+ *
+ * <p>A word is a part of a text, as {@link Widths} are asked by the
+ * texts being wrapped, so it is found by the characters of that part and
+ * its length, compared one by one, without copying the text. Only a word
+ * measured for the first time is copied, to be kept.
+ *
+ * <p>The word used least recently is dropped first, so the bytes taken by
+ * the words kept never go over the budget. Hits and misses are counted,
+ * so the budget can be tuned to the texts being laid out.
+ *
+ * <p>It is thread-safe: words are found and kept under a lock, because
+ * finding a word makes it the most recently used. A word is measured
+ * outside of it.
+ *
+ * @since 0.0.1
+ */
+public final class WidthCache implements Widths {
+    /**
+     * Bytes taken by a word besides its characters: the entry, the key and
+     * the string.
+     */
+    private static final long OVERHEAD = 112;
+
+    /**
+     * Origin widths.
+     */
+    private final Widths origin;
+
+    /**
+     * Max bytes taken by the words kept.
+     */
+    private final long budget;
+
+    /**
+     * Words kept and their widths, from the least recently used.
+     */
+    private final Map<Word, Integer> words;
+
+    /**
+     * Bytes taken by the words kept.
+     */
+    private long taken;
+
+    /**
+     * Amount of words found.
+     */
+    private long found;
+
+    /**
+     * Amount of words measured.
+     */
+    private long measured;
+
+    /**
+     * Ctor.
+     *
+     * <p>By default, the words kept take at most 256 KB.
+     *
+     * @param origin Origin widths
+     */
+    public WidthCache(final Widths origin) {
+        this(origin, 256 * 1024);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin widths
+     * @param budget Max bytes taken by the words kept
+     */
+    public WidthCache(final Widths origin, final long budget) {
+        if (budget < WidthCache.OVERHEAD) {
+            throw new IllegalArgumentException(
+                "Budget must keep at least one word"
+            );
+        }
+        this.origin = origin;
+        this.budget = budget;
+        this.words = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public int width(final CharSequence text, final int start, final int end) {
+        final Word word = new Word(text, start, end);
+        final Integer kept = this.find(word);
+        final int width;
+        if (kept == null) {
+            width = this.origin.width(text, start, end);
+            this.keep(word.copy(), width);
+        } else {
+            width = kept;
+        }
+        return width;
+    }
+
+    /**
+     * Amount of words found.
+     *
+     * @return The hits
+     */
+    public synchronized long hits() {
+        return this.found;
+    }
+
+    /**
+     * Amount of words measured because they were not found.
+     *
+     * @return The misses
+     */
+    public synchronized long misses() {
+        return this.measured;
+    }
+
+    /**
+     * Bytes taken by the words kept.
+     *
+     * @return The bytes
+     */
+    public synchronized long bytes() {
+        return this.taken;
+    }
+
+    /**
+     * Find a word, making it the most recently used.
+     *
+     * @param word Word
+     * @return The width of the word, or null if it is not kept
+     */
+    private synchronized Integer find(final Word word) {
+        final Integer width = this.words.get(word);
+        if (width == null) {
+            ++this.measured;
+        } else {
+            ++this.found;
+        }
+        return width;
+    }
+
+    /**
+     * Keep a word, dropping the least recently used ones to fit the budget.
+     *
+     * <p>A word which takes more bytes than the budget is not kept.
+     *
+     * @param word Word
+     * @param width Width of the word
+     */
+    private synchronized void keep(final Word word, final int width) {
+        final long cost = WidthCache.OVERHEAD + 2L * word.length();
+        if (
+            cost <= this.budget
+                && this.words.putIfAbsent(word, width) == null
+        ) {
+            this.taken = this.taken + cost;
+            final Iterator<Word> eldest = this.words.keySet().iterator();
+            while (this.taken > this.budget) {
+                final Word dropped = eldest.next();
+                eldest.remove();
+                this.taken = this.taken
+                    - WidthCache.OVERHEAD - 2L * dropped.length();
+            }
+        }
+    }
+
+    /**
+     * A word: a part of a text, equal to any part with the same characters.
+     *
+     * @since 0.0.1
+     */
+    private static final class Word {
+        /**
+         * Text.
+         */
+        private final CharSequence text;
+
+        /**
+         * Index of the first character.
+         */
+        private final int start;
+
+        /**
+         * Index after the last character.
+         */
+        private final int end;
+
+        /**
+         * Hash of the characters and the length.
+         */
+        private final int hash;
+
+        /**
+         * Ctor.
+         *
+         * @param text Text
+         * @param start Index of the first character
+         * @param end Index after the last character
+         */
+        Word(final CharSequence text, final int start, final int end) {
+            this(text, start, end, Word.hashed(text, start, end));
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param text Text
+         * @param start Index of the first character
+         * @param end Index after the last character
+         * @param hash Hash of the characters and the length
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        private Word(
+            final CharSequence text,
+            final int start,
+            final int end,
+            final int hash
+        ) {
+            this.text = text;
+            this.start = start;
+            this.end = end;
+            this.hash = hash;
+        }
+
+        /**
+         * Amount of characters.
+         *
+         * @return The length
+         */
+        int length() {
+            return this.end - this.start;
+        }
+
+        /**
+         * The same word, copied from its text, to be kept.
+         *
+         * @return The word
+         */
+        Word copy() {
+            return new Word(
+                this.text.subSequence(this.start, this.end).toString(),
+                0,
+                this.length(),
+                this.hash
+            );
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other || other instanceof Word
+                && this.same((Word) other);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        /**
+         * Whether another word has the same characters.
+         *
+         * @param other Another word
+         * @return True if they are the same
+         */
+        private boolean same(final Word other) {
+            boolean same = this.hash == other.hash
+                && this.length() == other.length();
+            for (int idx = 0; same && idx < this.length(); ++idx) {
+                same = this.text.charAt(this.start + idx)
+                    == other.text.charAt(other.start + idx);
+            }
+            return same;
+        }
+
+        /**
+         * Hash of a part of a text and its length.
+         *
+         * @param text Text
+         * @param start Index of the first character
+         * @param end Index after the last character
+         * @return The hash
+         */
+        private static int hashed(
+            final CharSequence text,
+            final int start,
+            final int end
+        ) {
+            int hash = 0;
+            for (int idx = start; idx < end; ++idx) {
+                hash = 31 * hash + text.charAt(idx);
+            }
+            return 31 * hash + end - start;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.resource.font;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Code of a character in WinAnsiEncoding.
+ *
+ * <p>ASCII and Latin-1 characters have their own codes. The codes from
+ * 128 to 159 hold other characters, such as the euro sign and the curly
+ * quotes, so a C1 control character has no code there. A character
+ * without a code gives -1.
+ *
+ * @since 0.0.1
+ */
+public final class WinAnsi implements IntUnaryOperator {
+    /**
+     * Character of each code from 128 to 159, or zero if it has none.
+     */
+    private static final String HIGH = String.join(
+        "",
+        "€\u0000‚ƒ„…†‡",
+        "ˆ‰Š‹Œ\u0000Ž\u0000",
+        "\u0000‘’“”•–—",
+        "˜™š›œ\u0000žŸ"
+    );
+
+    /**
+     * First code of the characters which are not Latin-1.
+     */
+    private static final int FIRST = 0x80;
+
+    /**
+     * First Latin-1 code after them.
+     */
+    private static final int LATIN = 0xA0;
+
+    @Override
+    public int applyAsInt(final int chr) {
+        final int code;
+        if (chr < WinAnsi.FIRST || chr >= WinAnsi.LATIN && chr <= 0xFF) {
+            code = chr;
+        } else {
+            final int idx = WinAnsi.HIGH.indexOf(chr);
+            if (idx < 0) {
+                code = -1;
+            } else {
+                code = WinAnsi.FIRST + idx;
+            }
+        }
+        return code;
+    }
+}
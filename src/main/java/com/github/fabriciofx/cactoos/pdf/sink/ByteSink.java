@@ -0,0 +1,240 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.sink;
+
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Sink backed by a growable byte array.
+ *
+ * <p>ASCII text and numbers are written straight into the array, without
+ * intermediate strings. Truncate it to zero to reuse the array.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.0.1
+ */
+public final class ByteSink implements Sink {
+    /**
+     * Digits of the lowest number, which can't be negated.
+     */
+    private static final byte[] LOWEST = Long.toString(Long.MIN_VALUE)
+        .getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Powers of ten, one for each supported precision.
+     */
+    private static final long[] POWERS = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+        100_000_000L, 1_000_000_000L,
+    };
+
+    /**
+     * Largest scaled number rounded without going through BigDecimal.
+     */
+    private static final double EXACT = 1.0e9;
+
+    /**
+     * Distance from a tie below which BigDecimal decides the rounding.
+     */
+    private static final double TIE = 1.0e-6;
+
+    /**
+     * Buffer.
+     */
+    private byte[] buffer;
+
+    /**
+     * Amount of bytes in the buffer.
+     */
+    private int count;
+
+    /**
+     * Ctor.
+     */
+    public ByteSink() {
+        this(256);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param capacity Initial capacity
+     */
+    public ByteSink(final int capacity) {
+        this.buffer = new byte[Math.max(capacity, 16)];
+    }
+
+    @Override
+    public Sink append(final byte value) {
+        this.ensure(1);
+        this.buffer[this.count] = value;
+        ++this.count;
+        return this;
+    }
+
+    @Override
+    public Sink append(final byte[] bytes) {
+        this.ensure(bytes.length);
+        System.arraycopy(bytes, 0, this.buffer, this.count, bytes.length);
+        this.count = this.count + bytes.length;
+        return this;
+    }
+
+    @Override
+    public Sink append(final CharSequence text) {
+        return this.append(text, 0, text.length());
+    }
+
+    @Override
+    public Sink append(
+        final CharSequence text,
+        final int start,
+        final int end
+    ) {
+        this.ensure(end - start);
+        final byte[] bytes = this.buffer;
+        int size = this.count;
+        int idx = start;
+        while (idx < end) {
+            final char chr = text.charAt(idx);
+            if (chr > 0x7F) {
+                break;
+            }
+            bytes[size] = (byte) chr;
+            ++size;
+            ++idx;
+        }
+        this.count = size;
+        if (idx < end) {
+            this.append(
+                text.subSequence(idx, end).toString()
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        return this;
+    }
+
+    @Override
+    public Sink append(final long number) {
+        if (number == Long.MIN_VALUE) {
+            this.append(ByteSink.LOWEST);
+        } else if (number < 0) {
+            this.append((byte) '-');
+            this.digits(-number, 1);
+        } else {
+            this.digits(number, 1);
+        }
+        return this;
+    }
+
+    @Override
+    public Sink append(final double number, final int precision) {
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            throw new IllegalArgumentException(
+                "A PDF real number must be finite"
+            );
+        }
+        if (precision < 0 || precision >= ByteSink.POWERS.length) {
+            throw new IllegalArgumentException(
+                "Precision must be between 0 and 9"
+            );
+        }
+        if (Double.doubleToRawLongBits(number) < 0) {
+            this.append((byte) '-');
+        }
+        final double value = Math.abs(number);
+        final long power = ByteSink.POWERS[precision];
+        final double scaled = value * power;
+        if (scaled < ByteSink.EXACT
+            && Math.abs(scaled - Math.floor(scaled) - 0.5) > ByteSink.TIE) {
+            final long units = Math.round(scaled);
+            this.digits(units / power, 1);
+            if (precision > 0) {
+                this.append((byte) '.');
+                this.digits(units % power, precision);
+            }
+        } else {
+            this.append(
+                new BigDecimal(Double.toString(value))
+                    .setScale(precision, RoundingMode.HALF_UP)
+                    .toPlainString()
+            );
+        }
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return this.count;
+    }
+
+    @Override
+    public Sink truncate(final int size) {
+        this.count = Math.min(size, this.count);
+        return this;
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer, this.count);
+    }
+
+    @Override
+    public byte[] toByteArray(final int start, final int end) {
+        return Arrays.copyOfRange(
+            this.buffer,
+            start,
+            Math.min(end, this.count)
+        );
+    }
+
+    @Override
+    public void writeTo(final OutputStream output) throws IOException {
+        output.write(this.buffer, 0, this.count);
+    }
+
+    /**
+     * Write the digits of a non-negative number, padded with zeros on the
+     * left up to a minimum amount of digits.
+     *
+     * @param number The number
+     * @param min Minimum amount of digits
+     */
+    private void digits(final long number, final int min) {
+        int digits = 1;
+        for (long rest = number / 10; rest > 0; rest = rest / 10) {
+            ++digits;
+        }
+        digits = Math.max(digits, min);
+        this.ensure(digits);
+        long value = number;
+        for (int idx = this.count + digits - 1; idx >= this.count; --idx) {
+            this.buffer[idx] = (byte) ('0' + value % 10);
+            value = value / 10;
+        }
+        this.count = this.count + digits;
+    }
+
+    /**
+     * Make room for more bytes.
+     *
+     * @param more Amount of bytes to be appended
+     */
+    private void ensure(final int more) {
+        if (this.count + more > this.buffer.length) {
+            this.buffer = Arrays.copyOf(
+                this.buffer,
+                Math.max(this.buffer.length * 2, this.count + more)
+            );
+        }
+    }
+}
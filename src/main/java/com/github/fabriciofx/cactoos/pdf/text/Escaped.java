@@ -4,15 +4,34 @@
  */
 package com.github.fabriciofx.cactoos.pdf.text;
 
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import java.util.Locale;
 import org.cactoos.Text;
 import org.cactoos.text.TextEnvelope;
+import org.cactoos.text.UncheckedText;
 
 /**
- * Escape a text with special characters: '(', ')', '\' and '\r'.
+ * Escape a text to be written as a PDF literal string.
+ *
+ * <p>Parentheses and backslashes get a backslash before them, the line
+ * feed, carriage return, tab, backspace and form feed become their escape
+ * sequences and other control characters become three octal digits. The
+ * text is escaped in a single pass, either into a new string or straight
+ * into a sink.
  *
  * @since 0.0.1
  */
 public final class Escaped extends TextEnvelope implements Text {
+    /**
+     * Escape sequence of each ASCII character, or null when it has none.
+     */
+    private static final String[] SEQUENCES = Escaped.sequences();
+
+    /**
+     * Text to be escaped.
+     */
+    private final Text origin;
+
     /**
      * Ctor.
      *
@@ -28,12 +47,93 @@ public final class Escaped extends TextEnvelope implements Text {
      * @param text Text to be escaped.
      */
     public Escaped(final Text text) {
-        super(
-            () -> text.asString()
-                .replaceAll("\\\\", "\\\\\\\\")
-                .replaceAll("\r", "\\\\r")
-                .replaceAll("\\(", "\\\\(")
-                .replaceAll("\\)", "\\\\)")
-        );
+        super(() -> Escaped.escape(text.asString()));
+        this.origin = text;
+    }
+
+    /**
+     * Write the escaped text into a sink, without an intermediate string.
+     *
+     * @param sink Where the escaped text will be written
+     */
+    public void writeTo(final Sink sink) {
+        final String text = new UncheckedText(this.origin).asString();
+        final int length = text.length();
+        int start = 0;
+        for (int idx = 0; idx < length; ++idx) {
+            final String sequence = Escaped.sequence(text.charAt(idx));
+            if (sequence != null) {
+                sink.append(text, start, idx).append(sequence);
+                start = idx + 1;
+            }
+        }
+        sink.append(text, start, length);
+    }
+
+    /**
+     * Escape a text into a new string.
+     *
+     * @param text Text to be escaped
+     * @return The escaped text
+     */
+    private static String escape(final String text) {
+        final int length = text.length();
+        StringBuilder escaped = null;
+        int start = 0;
+        for (int idx = 0; idx < length; ++idx) {
+            final String sequence = Escaped.sequence(text.charAt(idx));
+            if (sequence != null) {
+                if (escaped == null) {
+                    escaped = new StringBuilder(length + 16);
+                }
+                escaped.append(text, start, idx).append(sequence);
+                start = idx + 1;
+            }
+        }
+        final String result;
+        if (escaped == null) {
+            result = text;
+        } else {
+            result = escaped.append(text, start, length).toString();
+        }
+        return result;
+    }
+
+    /**
+     * Escape sequence of a character.
+     *
+     * @param chr Character
+     * @return The escape sequence or null if the character has none
+     */
+    private static String sequence(final char chr) {
+        final String sequence;
+        if (chr < Escaped.SEQUENCES.length) {
+            sequence = Escaped.SEQUENCES[chr];
+        } else {
+            sequence = null;
+        }
+        return sequence;
+    }
+
+    /**
+     * Build the escape sequences of the ASCII characters.
+     *
+     * @return The escape sequences
+     */
+    private static String[] sequences() {
+        final String[] sequences = new String[128];
+        for (int chr = 0; chr < 0x20; ++chr) {
+            sequences[chr] = String.format(Locale.ENGLISH, "\\%03o", chr);
+        }
+        sequences[0x7F] = "\\177";
+        sequences['\n'] = "\\n";
+        sequences['\r'] = "\\r";
+        sequences['\t'] = "\\t";
+        sequences['\b'] = "\\b";
+        sequences['\f'] = "\\f";
+        sequences['('] = "\\(";
+        sequences[')'] = "\\)";
+        sequences['\\'] = "\\\\";
+        return sequences;
     }
 }
@@ -4,36 +4,28 @@
  */
 package com.github.fabriciofx.cactoos.pdf.text;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableEnvelope;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.iterator.IteratorOf;
 import org.cactoos.text.TextOf;
 
 /**
  * Break a Text according a limit.
  *
+ * <p>Lines are measured in characters and found while the text is walked,
+ * without regular expressions or copies, and are given as spans of the
+ * text. A word keeps the space after it
+ * when the next word would still fit, even if the next word goes to the
+ * next line, so a line may end with a space. For lines filled up to a
+ * width, use {@link Wrapped}.
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.0.1
  */
 public final class Multiline extends IterableEnvelope<Text> {
-    /**
-     * New line character.
-     */
-    private static final String NEW_LINE = "\n";
-
-    /**
-     * Word separator.
-     */
-    private static final String SPACE = " ";
-
-    /**
-     * Split regular expression.
-     */
-    private static final String SPLIT_REGEX = "\\s+";
-
     /**
      * Default max limit.
      */
@@ -78,44 +70,151 @@ public final class Multiline extends IterableEnvelope<Text> {
      * @param limit Limit of the result string
      */
     public Multiline(final Text text, final int limit) {
-        super(
-            new Mapped<>(
-                TextOf::new,
-                new IterableOf<>(
-                    () -> {
-                        final String[] words = text.asString().split(
-                            Multiline.SPLIT_REGEX
-                        );
-                        final StringBuilder lines = new StringBuilder();
-                        final StringBuilder word = new StringBuilder(0);
-                        int length = 0;
-                        for (int idx = 0; idx < words.length; ++idx) {
-                            word.setLength(0);
-                            word.append(words[idx]);
-                            final int size = Multiline.SPACE.length()
-                                + word.length();
-                            if (length + size > limit) {
-                                if (idx > 0) {
-                                    lines.append(Multiline.NEW_LINE);
-                                }
-                                length = 0;
-                            }
-                            if (
-                                idx < words.length - 1
-                                    && length + size + words[idx + 1].length()
-                                        <= limit
-                            ) {
-                                word.append(Multiline.SPACE);
-                            }
-                            lines.append(word);
-                            length = length + word.length();
-                        }
-                        return new IteratorOf<>(
-                            lines.toString().split(Multiline.NEW_LINE)
-                        );
+        super(new IterableOf<>(() -> new Cursor(text.asString(), limit)));
+    }
+
+    /**
+     * Walks the text, one line at a time.
+     *
+     * @since 0.0.1
+     */
+    private static final class Cursor implements Iterator<Span> {
+        /**
+         * Text.
+         */
+        private final CharSequence text;
+
+        /**
+         * Max amount of characters in a line.
+         */
+        private final int limit;
+
+        /**
+         * Index of the first word of the next line.
+         */
+        private int pos;
+
+        /**
+         * Next line, or null if it was not found yet.
+         */
+        private Span line;
+
+        /**
+         * Whether any line was given.
+         */
+        private boolean given;
+
+        /**
+         * Ctor.
+         *
+         * <p>A text starting with whitespace starts with an empty word.
+         *
+         * @param text Text
+         * @param limit Max amount of characters in a line
+         */
+        Cursor(final CharSequence text, final int limit) {
+            this.text = text;
+            this.limit = limit;
+            if (this.skip(0) == text.length()) {
+                this.pos = text.length();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.line == null) {
+                this.line = this.advance();
+            }
+            return this.line != null;
+        }
+
+        @Override
+        public Span next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("there is no more lines");
+            }
+            final Span next = this.line;
+            this.line = null;
+            this.given = true;
+            return next;
+        }
+
+        /**
+         * Find the next line.
+         *
+         * @return The line or null if there is no more lines
+         */
+        private Span advance() {
+            final int length = this.text.length();
+            Span found = null;
+            if (this.pos < length) {
+                final int start = this.pos;
+                int first = start;
+                int end = this.word(first);
+                int used = 0;
+                final int stop;
+                this.pos = length;
+                while (true) {
+                    final int next = this.skip(end);
+                    if (next == length) {
+                        stop = end;
+                        break;
+                    }
+                    final int after = this.word(next);
+                    final int size = end - first + 1;
+                    if (used + size + after - next > this.limit) {
+                        stop = end;
+                        this.pos = next;
+                        break;
                     }
-                )
-            )
-        );
+                    used = used + size;
+                    if (used + 1 + after - next > this.limit) {
+                        stop = end + 1;
+                        this.pos = next;
+                        break;
+                    }
+                    first = next;
+                    end = after;
+                }
+                found = new Span(this.text, start, stop);
+            } else if (!this.given) {
+                found = new Span(this.text, 0, 0);
+            }
+            return found;
+        }
+
+        /**
+         * Skip whitespace.
+         *
+         * @param from Index to start from
+         * @return Index of the first non whitespace character
+         */
+        private int skip(final int from) {
+            int idx = from;
+            while (
+                idx < this.text.length()
+                    && Character.isWhitespace(this.text.charAt(idx))
+            ) {
+                ++idx;
+            }
+            return idx;
+        }
+
+        /**
+         * Find the end of a word.
+         *
+         * @param from Index of the first character of the word
+         * @return Index after the last character of the word
+         */
+        private int word(final int from) {
+            int idx = from;
+            while (
+                idx < this.text.length()
+                    && !Character.isWhitespace(this.text.charAt(idx))
+            ) {
+                ++idx;
+            }
+            return idx;
+        }
     }
 }
@@ -4,9 +4,9 @@
  */
 package com.github.fabriciofx.cactoos.pdf.text;
 
-import java.util.Locale;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
+import java.nio.charset.StandardCharsets;
 import org.cactoos.Text;
-import org.cactoos.text.FormattedText;
 
 /**
  * Reference.
@@ -55,11 +55,14 @@ public final class Reference implements Text {
 
     @Override
     public String asString() throws Exception {
-        return new FormattedText(
-            "%d %d R",
-            Locale.ENGLISH,
-            this.num,
-            this.gen
-        ).asString();
+        return new String(
+            new ByteSink(24)
+                .append(this.num)
+                .append((byte) ' ')
+                .append(this.gen)
+                .append(" R")
+                .toByteArray(),
+            StandardCharsets.US_ASCII
+        );
     }
 }
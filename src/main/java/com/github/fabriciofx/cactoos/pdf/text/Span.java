@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.text;
+
+import org.cactoos.Text;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Words of a text, kept as offsets into it instead of a copy.
+ *
+ * <p>As a text, each run of whitespace in the span becomes a single
+ * space, whatever whitespace separates the words in the whole text. It is
+ * equal to any other text with the same string.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.0.1
+ */
+public final class Span implements Text {
+    /**
+     * Whole text.
+     */
+    private final CharSequence text;
+
+    /**
+     * Index of the first character.
+     */
+    private final int first;
+
+    /**
+     * Index after the last character.
+     */
+    private final int last;
+
+    /**
+     * Ctor.
+     *
+     * @param text Whole text
+     * @param start Index of the first character
+     * @param end Index after the last character
+     */
+    public Span(final CharSequence text, final int start, final int end) {
+        this.text = text;
+        this.first = start;
+        this.last = end;
+    }
+
+    /**
+     * Index of the first character in the whole text.
+     *
+     * @return The index
+     */
+    public int start() {
+        return this.first;
+    }
+
+    /**
+     * Index after the last character in the whole text.
+     *
+     * @return The index
+     */
+    public int end() {
+        return this.last;
+    }
+
+    @Override
+    public String asString() {
+        final StringBuilder words = new StringBuilder(this.last - this.first);
+        boolean blank = false;
+        for (int idx = this.first; idx < this.last; ++idx) {
+            final char chr = this.text.charAt(idx);
+            if (!Character.isWhitespace(chr)) {
+                words.append(chr);
+                blank = false;
+            } else if (!blank) {
+                words.append(' ');
+                blank = true;
+            }
+        }
+        return words.toString();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof Text
+            && this.asString().equals(
+                new UncheckedText((Text) other).asString()
+            );
+    }
+
+    @Override
+    public int hashCode() {
+        return this.asString().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.asString();
+    }
+}
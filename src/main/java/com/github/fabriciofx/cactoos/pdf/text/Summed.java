@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.text;
+
+import com.github.fabriciofx.cactoos.pdf.Widths;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Widths of texts, summed from the width of each character.
+ *
+ * @since 0.0.1
+ */
+public final class Summed implements Widths {
+    /**
+     * Width of each character.
+     */
+    private final IntUnaryOperator widths;
+
+    /**
+     * Ctor.
+     *
+     * @param widths Width of each character
+     */
+    public Summed(final IntUnaryOperator widths) {
+        this.widths = widths;
+    }
+
+    @Override
+    public int width(final CharSequence text, final int start, final int end) {
+        int width = 0;
+        for (int idx = start; idx < end; ++idx) {
+            width = width + this.widths.applyAsInt(text.charAt(idx));
+        }
+        return width;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.text;
+
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Widths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Lines of a paragraph, broken to be justified as evenly as possible.
+ *
+ * <p>This is the total-fit algorithm of Knuth and Plass: among all the
+ * ways to break the paragraph, it takes the one with the least sum of
+ * demerits, where the demerits of a line grow with the cube of how much
+ * its spaces must stretch or shrink. Spaces stretch by half and shrink by
+ * a third of their width, and the last line is not stretched.
+ *
+ * <p>Word widths are kept as prefix sums, so a line is measured in
+ * constant time. A line start stops being considered as soon as a line
+ * from it would have to shrink more than it can, so each word is tried
+ * only against the starts of about one line before it and the whole
+ * paragraph is broken in near-linear time. A word wider than the line
+ * gets a line of its own.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.0.1
+ */
+public final class TotalFit implements Iterable<Span> {
+    /**
+     * Badness of a line that can't be justified.
+     */
+    private static final double AWFUL = 10_000;
+
+    /**
+     * Demerits of every line, so fewer lines are preferred.
+     */
+    private static final double PENALTY = 10;
+
+    /**
+     * Text.
+     */
+    private final CharSequence text;
+
+    /**
+     * Widths of the words.
+     */
+    private final Widths widths;
+
+    /**
+     * Max line width, measured as the characters.
+     */
+    private final double max;
+
+    /**
+     * Ctor.
+     *
+     * @param text Text
+     * @param font Font which measures the characters
+     * @param width Line width in points
+     */
+    public TotalFit(
+        final CharSequence text,
+        final Font font,
+        final double width
+    ) {
+        this(
+            text,
+            (txt, start, end) -> font.width(txt, start, end),
+            width * 1000.0 / font.size()
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param text Text
+     * @param widths Width of each character
+     * @param max Line width, measured as the characters
+     */
+    public TotalFit(
+        final CharSequence text,
+        final IntUnaryOperator widths,
+        final double max
+    ) {
+        this(text, new Summed(widths), max);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param text Text
+     * @param widths Widths of the words
+     * @param max Line width, measured as the characters
+     */
+    public TotalFit(
+        final CharSequence text,
+        final Widths widths,
+        final double max
+    ) {
+        this.text = text;
+        this.widths = widths;
+        this.max = max;
+    }
+
+    @Override
+    public Iterator<Span> iterator() {
+        return this.lines().iterator();
+    }
+
+    /**
+     * Break the paragraph.
+     *
+     * @return The lines
+     */
+    private List<Span> lines() {
+        final int length = this.text.length();
+        int[] starts = new int[64];
+        int[] ends = new int[64];
+        long[] sums = new long[65];
+        int count = 0;
+        int idx = 0;
+        while (idx < length) {
+            if (Character.isWhitespace(this.text.charAt(idx))) {
+                ++idx;
+            } else {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                    ends = Arrays.copyOf(ends, count * 2);
+                    sums = Arrays.copyOf(sums, count * 2 + 1);
+                }
+                starts[count] = idx;
+                idx = this.word(idx);
+                ends[count] = idx;
+                sums[count + 1] = sums[count]
+                    + this.measure(starts[count], idx);
+                ++count;
+            }
+        }
+        final List<Span> lines = new ArrayList<>(0);
+        if (count == 0) {
+            lines.add(new Span(this.text, 0, 0));
+        } else {
+            final int[] prev = this.breaks(sums, count);
+            int end = count;
+            while (end > 0) {
+                lines.add(
+                    new Span(this.text, starts[prev[end]], ends[end - 1])
+                );
+                end = prev[end];
+            }
+            Collections.reverse(lines);
+        }
+        return lines;
+    }
+
+    /**
+     * Find the breaks with the least total demerits.
+     *
+     * @param sums Prefix sums of the word widths
+     * @param count Amount of words
+     * @return For each word count, the word that starts its last line
+     */
+    private int[] breaks(final long[] sums, final int count) {
+        final double space = this.widths.width(" ", 0, 1);
+        final double[] totals = new double[count + 1];
+        final int[] prev = new int[count + 1];
+        int lowest = 0;
+        for (int end = 1; end <= count; ++end) {
+            totals[end] = Double.POSITIVE_INFINITY;
+            for (int start = end - 1; start >= lowest; --start) {
+                final int gaps = end - start - 1;
+                final double diff = this.max - (sums[end] - sums[start])
+                    - gaps * space;
+                final double ratio;
+                if (diff == 0 || diff > 0 && end == count) {
+                    ratio = 0;
+                } else if (diff > 0) {
+                    ratio = diff / (gaps * space / 2);
+                } else {
+                    ratio = diff / (gaps * space / 3);
+                }
+                if (ratio < -1 && start < end - 1) {
+                    lowest = start + 1;
+                    break;
+                }
+                final double total = totals[start]
+                    + TotalFit.demerits(ratio);
+                if (total < totals[end]) {
+                    totals[end] = total;
+                    prev[end] = start;
+                }
+                if (ratio < -1) {
+                    lowest = end;
+                }
+            }
+        }
+        return prev;
+    }
+
+    /**
+     * Find the end of a word.
+     *
+     * @param from Index of the first character of the word
+     * @return Index after the last character of the word
+     */
+    private int word(final int from) {
+        int idx = from;
+        while (
+            idx < this.text.length()
+                && !Character.isWhitespace(this.text.charAt(idx))
+        ) {
+            ++idx;
+        }
+        return idx;
+    }
+
+    /**
+     * Measure a part of the text.
+     *
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return The width
+     */
+    private long measure(final int start, final int end) {
+        return this.widths.width(this.text, start, end);
+    }
+
+    /**
+     * Demerits of a line.
+     *
+     * @param ratio How much its spaces stretch (positive) or shrink
+     *  (negative), relative to what they can
+     * @return The demerits
+     */
+    private static double demerits(final double ratio) {
+        final double badness;
+        if (Double.isNaN(ratio) || ratio < -1) {
+            badness = TotalFit.AWFUL;
+        } else {
+            badness = Math.min(
+                100 * Math.abs(ratio * ratio * ratio),
+                TotalFit.AWFUL
+            );
+        }
+        final double line = TotalFit.PENALTY + badness;
+        return line * line;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.text;
+
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Widths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Lines of a text, broken between words so each one fits a width.
+ *
+ * <p>Each word is measured as a whole, either in characters or by a
+ * font, which may keep the widths of the words it has seen. Lines are
+ * found lazily while the text is walked, without regular expressions or
+ * copies, and are given as spans of the text. A word wider than the line
+ * gets a line of its own. A text without words has a single empty line.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.0.1
+ */
+public final class Wrapped implements Iterable<Span> {
+    /**
+     * Text.
+     */
+    private final CharSequence text;
+
+    /**
+     * Widths of the words.
+     */
+    private final Widths widths;
+
+    /**
+     * Max line width, measured as the characters.
+     */
+    private final double max;
+
+    /**
+     * Ctor.
+     *
+     * @param text Text
+     * @param limit Max amount of characters in a line
+     */
+    public Wrapped(final CharSequence text, final int limit) {
+        this(text, chr -> 1, limit);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param text Text
+     * @param font Font which measures the characters
+     * @param width Max line width in points
+     */
+    public Wrapped(
+        final CharSequence text,
+        final Font font,
+        final double width
+    ) {
+        this(
+            text,
+            (txt, start, end) -> font.width(txt, start, end),
+            width * 1000.0 / font.size()
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param text Text
+     * @param widths Width of each character
+     * @param max Max line width, measured as the characters
+     */
+    public Wrapped(
+        final CharSequence text,
+        final IntUnaryOperator widths,
+        final double max
+    ) {
+        this(text, new Summed(widths), max);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param text Text
+     * @param widths Widths of the words
+     * @param max Max line width, measured as the characters
+     */
+    public Wrapped(
+        final CharSequence text,
+        final Widths widths,
+        final double max
+    ) {
+        this.text = text;
+        this.widths = widths;
+        this.max = max;
+    }
+
+    @Override
+    public Iterator<Span> iterator() {
+        return new Cursor(this.text, this.widths, this.max);
+    }
+
+    /**
+     * Walks the text, one line at a time.
+     *
+     * @since 0.0.1
+     */
+    private static final class Cursor implements Iterator<Span> {
+        /**
+         * Text.
+         */
+        private final CharSequence text;
+
+        /**
+         * Widths of the words.
+         */
+        private final Widths widths;
+
+        /**
+         * Max line width.
+         */
+        private final double max;
+
+        /**
+         * Width of a space between words.
+         */
+        private final int space;
+
+        /**
+         * Index where the next line will be looked for.
+         */
+        private int pos;
+
+        /**
+         * Next line, or null if it was not found yet.
+         */
+        private Span line;
+
+        /**
+         * Whether any line was given.
+         */
+        private boolean given;
+
+        /**
+         * Ctor.
+         *
+         * @param text Text
+         * @param widths Widths of the words
+         * @param max Max line width
+         */
+        Cursor(
+            final CharSequence text,
+            final Widths widths,
+            final double max
+        ) {
+            this.text = text;
+            this.widths = widths;
+            this.max = max;
+            this.space = widths.width(" ", 0, 1);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.line == null) {
+                this.line = this.advance();
+            }
+            return this.line != null;
+        }
+
+        @Override
+        public Span next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("there is no more lines");
+            }
+            final Span next = this.line;
+            this.line = null;
+            this.given = true;
+            return next;
+        }
+
+        /**
+         * Find the next line.
+         *
+         * @return The line or null if there is no more lines
+         */
+        private Span advance() {
+            final int length = this.text.length();
+            final int start = this.skip(this.pos);
+            Span found = null;
+            if (start < length) {
+                int end = this.word(start);
+                double width = this.measure(start, end);
+                int next = this.skip(end);
+                while (next < length) {
+                    final int after = this.word(next);
+                    final double total = width + this.space
+                        + this.measure(next, after);
+                    if (total > this.max) {
+                        break;
+                    }
+                    width = total;
+                    end = after;
+                    next = this.skip(after);
+                }
+                this.pos = next;
+                found = new Span(this.text, start, end);
+            } else if (!this.given) {
+                found = new Span(this.text, 0, 0);
+            }
+            return found;
+        }
+
+        /**
+         * Skip whitespace.
+         *
+         * @param from Index to start from
+         * @return Index of the first non whitespace character
+         */
+        private int skip(final int from) {
+            int idx = from;
+            while (
+                idx < this.text.length()
+                    && Character.isWhitespace(this.text.charAt(idx))
+            ) {
+                ++idx;
+            }
+            return idx;
+        }
+
+        /**
+         * Find the end of a word.
+         *
+         * @param from Index of the first character of the word
+         * @return Index after the last character of the word
+         */
+        private int word(final int from) {
+            int idx = from;
+            while (
+                idx < this.text.length()
+                    && !Character.isWhitespace(this.text.charAt(idx))
+            ) {
+                ++idx;
+            }
+            return idx;
+        }
+
+        /**
+         * Measure a part of the text.
+         *
+         * @param start Index of the first character
+         * @param end Index after the last character
+         * @return The width
+         */
+        private double measure(final int start, final int end) {
+            return this.widths.width(this.text, start, end);
+        }
+    }
+}
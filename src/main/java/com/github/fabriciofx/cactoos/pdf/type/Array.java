@@ -4,32 +4,42 @@
  */
 package com.github.fabriciofx.cactoos.pdf.type;
 
+import com.github.fabriciofx.cactoos.pdf.Sink;
 import com.github.fabriciofx.cactoos.pdf.Type;
-import java.io.ByteArrayOutputStream;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.Collectors;
-import org.cactoos.list.ListOf;
-import org.cactoos.text.FormattedText;
-import org.cactoos.text.UncheckedText;
 
 /**
  * Array.
  *
+ * <p>Arrays are immutable, but an array built from another one shares its
+ * values, so appending a value to the last array of a chain costs O(1)
+ * and doesn't copy the previous values.
+ *
  * @since 0.0.1
  */
 public final class Array implements Type<Type<?>> {
     /**
-     * Values.
+     * Values, shared with other arrays.
      */
     private final List<Type<?>> values;
 
+    /**
+     * Amount of values seen by this array.
+     */
+    private final int size;
+
     /**
      * Ctor.
      */
     public Array() {
-        this(new ListOf<>());
+        this(new ArrayList<>(0), 0);
     }
 
     /**
@@ -47,7 +57,7 @@ public final class Array implements Type<Type<?>> {
      * @param values Values
      */
     public Array(final Type<?>... values) {
-        this(new ListOf<>(values));
+        this(Arrays.asList(values));
     }
 
     /**
@@ -56,16 +66,25 @@ public final class Array implements Type<Type<?>> {
      * @param values Values
      */
     public Array(final List<Type<?>> values) {
+        this(new ArrayList<>(values), values.size());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param values Values, shared with other arrays
+     * @param size Amount of values seen by this array
+     */
+    private Array(final List<Type<?>> values, final int size) {
         this.values = values;
+        this.size = size;
     }
 
     @Override
     public byte[] asBytes() throws Exception {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        for (final Type<?> type : this.values) {
-            baos.write(type.asBytes());
-        }
-        return baos.toByteArray();
+        final Sink sink = new ByteSink(this.size * 8 + 2);
+        this.writeTo(sink);
+        return sink.toByteArray();
     }
 
     @Override
@@ -75,13 +94,19 @@ public final class Array implements Type<Type<?>> {
 
     @Override
     public String asString() throws Exception {
-        return new FormattedText(
-            "[%s]",
-            Locale.ENGLISH,
-            this.values.stream().map(
-                type -> new UncheckedText(type).asString()
-            ).collect(Collectors.joining(" "))
-        ).asString();
+        return new String(this.asBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void writeTo(final Sink sink) throws Exception {
+        sink.append((byte) '[');
+        for (int idx = 0; idx < this.size; ++idx) {
+            if (idx > 0) {
+                sink.append((byte) ' ');
+            }
+            this.value(idx).writeTo(sink);
+        }
+        sink.append((byte) ']');
     }
 
     /**
@@ -91,9 +116,35 @@ public final class Array implements Type<Type<?>> {
      * @return A new array with added value
      */
     public Array add(final Type<?> value) {
-        final List<Type<?>> tmp = new ListOf<>(this.values);
-        tmp.add(value);
-        return new Array(tmp);
+        final Array array;
+        synchronized (this.values) {
+            if (this.values.size() == this.size) {
+                this.values.add(value);
+                array = new Array(this.values, this.size + 1);
+            } else {
+                final List<Type<?>> tmp = new ArrayList<>(
+                    this.values.subList(0, this.size)
+                );
+                tmp.add(value);
+                array = new Array(tmp, tmp.size());
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Renumber the indirect references of this array, including the ones
+     * inside its dictionaries and arrays.
+     *
+     * @param numbers Gives the new number of an object number
+     * @return A new array with the references renumbered
+     */
+    public Array renumbered(final IntUnaryOperator numbers) {
+        final List<Type<?>> renumbered = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            renumbered.add(Dictionary.renumbered(this.value(idx), numbers));
+        }
+        return new Array(renumbered, this.size);
     }
 
     /**
@@ -105,6 +156,18 @@ public final class Array implements Type<Type<?>> {
      */
     @SuppressWarnings("unchecked")
     public <T> T get(final int index) {
-        return (T) this.values.get(index);
+        return (T) this.value(Objects.checkIndex(index, this.size));
+    }
+
+    /**
+     * Get a value seen by this array.
+     *
+     * @param index The nth value
+     * @return The value
+     */
+    private Type<?> value(final int index) {
+        synchronized (this.values) {
+            return this.values.get(index);
+        }
     }
 }
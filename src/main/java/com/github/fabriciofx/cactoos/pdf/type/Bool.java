@@ -4,6 +4,7 @@
  */
 package com.github.fabriciofx.cactoos.pdf.type;
 
+import com.github.fabriciofx.cactoos.pdf.Sink;
 import com.github.fabriciofx.cactoos.pdf.Type;
 
 /**
@@ -42,6 +43,11 @@ public final class Bool implements Type<Boolean> {
         return text;
     }
 
+    @Override
+    public void writeTo(final Sink sink) throws Exception {
+        sink.append(this.asString());
+    }
+
     @Override
     public byte[] asBytes() throws Exception {
         final byte[] stream = new byte[1];
@@ -4,27 +4,35 @@
  */
 package com.github.fabriciofx.cactoos.pdf.type;
 
+import com.github.fabriciofx.cactoos.pdf.Sink;
 import com.github.fabriciofx.cactoos.pdf.Type;
-import java.io.ByteArrayOutputStream;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
 import java.nio.charset.StandardCharsets;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.function.IntUnaryOperator;
 import org.cactoos.list.ListOf;
-import org.cactoos.text.FormattedText;
 
 /**
  * Dictionary.
  *
+ * <p>Dictionaries are immutable, but a dictionary built from another one
+ * shares its entries, so adding an entry to the last dictionary of a
+ * chain costs O(1) and doesn't copy the previous entries.
+ *
  * @since 0.0.1
  */
 @SuppressWarnings("PMD.UnnecessaryLocalRule")
 public final class Dictionary implements Type<Dictionary> {
     /**
-     * Entries.
+     * Entries, shared with other dictionaries.
+     */
+    private final Ledger entries;
+
+    /**
+     * Amount of entries seen by this dictionary.
      */
-    private final Map<Name, Type<?>> entries;
+    private final int size;
 
     /**
      * Stream, if there is one.
@@ -35,7 +43,7 @@ public final class Dictionary implements Type<Dictionary> {
      * Ctor.
      */
     public Dictionary() {
-        this(new ListOf<>(), new LinkedHashMap<>());
+        this(new ListOf<>(), new Ledger(), 0);
     }
 
     /**
@@ -56,9 +64,25 @@ public final class Dictionary implements Type<Dictionary> {
     public Dictionary(
         final List<Stream> stream,
         final Map<Name, Type<?>> entries
+    ) {
+        this(stream, new Ledger(entries), entries.size());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param stream Stream, if there is one
+     * @param entries Entries, shared with other dictionaries
+     * @param size Amount of entries seen by this dictionary
+     */
+    private Dictionary(
+        final List<Stream> stream,
+        final Ledger entries,
+        final int size
     ) {
         this.stream = stream;
         this.entries = entries;
+        this.size = size;
     }
 
     @Override
@@ -68,34 +92,26 @@ public final class Dictionary implements Type<Dictionary> {
 
     @Override
     public String asString() throws Exception {
-        final StringBuilder values = new StringBuilder();
-        for (final Map.Entry<Name, Type<?>> entry : this.entries.entrySet()) {
-            if (entry.getValue().asString().isEmpty()) {
-                values.append(entry.getKey().asString());
-            } else {
-                values.append(entry.getKey().asString())
-                    .append(' ')
-                    .append(entry.getValue().asString());
-            }
-            values.append(' ');
-        }
-        return new FormattedText(
-            "<< %s>>",
-            Locale.ENGLISH,
-            values.toString()
-        ).asString();
+        final Sink sink = new ByteSink(this.size * 16 + 6);
+        this.entries(sink);
+        return new String(sink.toByteArray(), StandardCharsets.UTF_8);
     }
 
     @Override
     public byte[] asBytes() throws Exception {
-        final ByteArrayOutputStream output = new ByteArrayOutputStream();
-        if (!this.entries.isEmpty()) {
-            output.write(this.asString().getBytes(StandardCharsets.UTF_8));
+        final Sink sink = new ByteSink(this.size * 16 + 6);
+        this.writeTo(sink);
+        return sink.toByteArray();
+    }
+
+    @Override
+    public void writeTo(final Sink sink) throws Exception {
+        if (this.size > 0) {
+            this.entries(sink);
         }
         if (!this.stream.isEmpty()) {
-            output.write(this.stream.get(0).asBytes());
+            this.stream.get(0).writeTo(sink);
         }
-        return output.toByteArray();
     }
 
     /**
@@ -106,9 +122,7 @@ public final class Dictionary implements Type<Dictionary> {
      * @return A new dictionary with the new entry added
      */
     public Dictionary add(final String name, final Type<?> value) {
-        final Map<Name, Type<?>> tmp = new LinkedHashMap<>(this.entries);
-        tmp.put(new Name(name), value);
-        return new Dictionary(tmp);
+        return this.add(new Name(name), value);
     }
 
     /**
@@ -118,28 +132,39 @@ public final class Dictionary implements Type<Dictionary> {
      * @return A new dictionary with the stream added
      */
     public Dictionary with(final Stream strm) {
-        return new Dictionary(new ListOf<>(strm), this.entries);
+        return new Dictionary(new ListOf<>(strm), this.entries, this.size);
     }
 
     /**
      * Merge two dictionary.
      *
+     * <p>When both have a dictionary with the same name, the entries of
+     * the given one are added into a copy of this one.
+     *
      * @param dictionary A dictionary to be merged
      * @return A new dictionary merged
      * @throws Exception if fails
      */
     public Dictionary merge(final Dictionary dictionary) throws Exception {
-        final Map<Name, Type<?>> elements = new LinkedHashMap<>(this.entries);
-        for (final Name name : dictionary.entries.keySet()) {
-            if (elements.containsKey(name)) {
-                final Dictionary origin = dictionary.get(name.value());
-                final Dictionary target = (Dictionary) elements.get(name);
-                target.entries.putAll(origin.entries);
+        Dictionary result = this;
+        for (int idx = 0; idx < dictionary.size; ++idx) {
+            final Name name = dictionary.entries.name(idx);
+            final Type<?> value = dictionary.entries.value(idx);
+            final int position = result.entries.position(result.size, name);
+            if (position >= 0) {
+                Dictionary target = (Dictionary) result.entries.value(position);
+                final Dictionary origin = (Dictionary) value;
+                for (int pos = 0; pos < origin.size; ++pos) {
+                    target = target.add(
+                        origin.entries.name(pos),
+                        origin.entries.value(pos)
+                    );
+                }
+                result = result.add(name, target);
             } else {
-                elements.putAll(dictionary.entries);
+                result = result.add(name, value);
             }
         }
-        Dictionary result = new Dictionary(elements);
         if (!dictionary.stream.isEmpty()) {
             result = result.with(dictionary.stream.get(0));
         }
@@ -153,7 +178,7 @@ public final class Dictionary implements Type<Dictionary> {
      * @return True if there is, false if not
      */
     public boolean contains(final String key) {
-        return this.entries.containsKey(new Name(key));
+        return this.entries.position(this.size, new Name(key)) >= 0;
     }
 
     /**
@@ -165,7 +190,43 @@ public final class Dictionary implements Type<Dictionary> {
      */
     @SuppressWarnings("unchecked")
     public <T> T get(final String key) {
-        return (T) this.entries.get(new Name(key));
+        final int position = this.entries.position(this.size, new Name(key));
+        T value = null;
+        if (position >= 0) {
+            value = (T) this.entries.value(position);
+        }
+        return value;
+    }
+
+    /**
+     * Renumber the indirect references of this dictionary, including the
+     * ones inside its dictionaries and arrays.
+     *
+     * @param numbers Gives the new number of an object number
+     * @return A new dictionary with the references renumbered
+     */
+    public Dictionary renumbered(final IntUnaryOperator numbers) {
+        Dictionary result = new Dictionary(
+            this.stream,
+            new Ledger(this.size),
+            0
+        );
+        for (int idx = 0; idx < this.size; ++idx) {
+            result = result.add(
+                this.entries.name(idx),
+                Dictionary.renumbered(this.entries.value(idx), numbers)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Check if a dictionary has a data stream.
+     *
+     * @return True if there is a data stream, false otherwise
+     */
+    public boolean hasStream() {
+        return !this.stream.isEmpty();
     }
 
     /**
@@ -174,6 +235,69 @@ public final class Dictionary implements Type<Dictionary> {
      * @return True if a dictionary is empty, false otherwise.
      */
     public boolean isEmpty() {
-        return this.entries.isEmpty();
+        return this.size == 0;
+    }
+
+    /**
+     * Add an entry into dictionary.
+     *
+     * @param name The name of this entry
+     * @param value The value of this entry
+     * @return A new dictionary with the new entry added
+     */
+    private Dictionary add(final Name name, final Type<?> value) {
+        final Dictionary result;
+        if (this.entries.append(this.size, name, value)) {
+            result = new Dictionary(this.stream, this.entries, this.size + 1);
+        } else {
+            final Ledger ledger = this.entries.with(this.size, name, value);
+            result = new Dictionary(this.stream, ledger, ledger.size());
+        }
+        return result;
+    }
+
+    /**
+     * Renumber the indirect references of a value.
+     *
+     * @param value The value
+     * @param numbers Gives the new number of an object number
+     * @return The value with its references renumbered
+     */
+    static Type<?> renumbered(
+        final Type<?> value,
+        final IntUnaryOperator numbers
+    ) {
+        final Type<?> result;
+        if (value instanceof Dictionary) {
+            result = Dictionary.class.cast(value).renumbered(numbers);
+        } else if (value instanceof Array) {
+            result = Array.class.cast(value).renumbered(numbers);
+        } else if (value instanceof Text) {
+            result = Text.class.cast(value).renumbered(numbers);
+        } else {
+            result = value;
+        }
+        return result;
+    }
+
+    /**
+     * Write the entries, between angle brackets, into a sink.
+     *
+     * @param sink Where the entries will be written
+     * @throws Exception if fails
+     */
+    private void entries(final Sink sink) throws Exception {
+        sink.append("<< ");
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.entries.name(idx).writeTo(sink);
+            final int mark = sink.size();
+            sink.append((byte) ' ');
+            this.entries.value(idx).writeTo(sink);
+            if (sink.size() == mark + 1) {
+                sink.truncate(mark);
+            }
+            sink.append((byte) ' ');
+        }
+        sink.append(">>");
     }
 }
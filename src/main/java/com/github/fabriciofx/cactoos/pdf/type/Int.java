@@ -4,7 +4,9 @@
  */
 package com.github.fabriciofx.cactoos.pdf.type;
 
+import com.github.fabriciofx.cactoos.pdf.Sink;
 import com.github.fabriciofx.cactoos.pdf.Type;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
 
 /**
  * Int.
@@ -33,16 +35,18 @@ public final class Int implements Type<Integer> {
 
     @Override
     public byte[] asBytes() throws Exception {
-        final byte[] bytes = new byte[4];
-        bytes[0] = (byte) (this.num >> 24);
-        bytes[1] = (byte) (this.num >> 16);
-        bytes[2] = (byte) (this.num >> 8);
-        bytes[3] = (byte) this.num;
-        return bytes;
+        final Sink sink = new ByteSink(11);
+        this.writeTo(sink);
+        return sink.toByteArray();
     }
 
     @Override
     public String asString() throws Exception {
         return Integer.toString(this.num);
     }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append(this.num);
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.type;
+
+import com.github.fabriciofx.cactoos.pdf.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ledger of dictionary entries.
+ *
+ * <p>An append-only log of entries shared by several dictionaries. Each
+ * dictionary sees only the first entries of the ledger (its size), so
+ * appending entries is invisible to the dictionaries that already exist.
+ * Only a dictionary that sees every entry may append; the others copy
+ * the ledger first.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 0.0.1
+ */
+final class Ledger {
+    /**
+     * Names, in insertion order.
+     */
+    private final List<Name> names;
+
+    /**
+     * Values, in insertion order.
+     */
+    private final List<Type<?>> values;
+
+    /**
+     * Position of each name.
+     */
+    private final Map<Name, Integer> positions;
+
+    /**
+     * Ctor.
+     */
+    Ledger() {
+        this(0);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param capacity Expected amount of entries
+     */
+    Ledger(final int capacity) {
+        this.names = new ArrayList<>(capacity);
+        this.values = new ArrayList<>(capacity);
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param entries Entries
+     */
+    Ledger(final Map<Name, Type<?>> entries) {
+        this(entries.size());
+        for (final Map.Entry<Name, Type<?>> entry : entries.entrySet()) {
+            this.append(this.names.size(), entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Append an entry if a dictionary of that size sees every entry and
+     * the name isn't there yet.
+     *
+     * @param size Amount of entries seen by the dictionary
+     * @param name Entry name
+     * @param value Entry value
+     * @return True if appended, false if the ledger must be copied
+     */
+    synchronized boolean append(
+        final int size,
+        final Name name,
+        final Type<?> value
+    ) {
+        final boolean tip = this.names.size() == size
+            && !this.positions.containsKey(name);
+        if (tip) {
+            this.positions.put(name, size);
+            this.names.add(name);
+            this.values.add(value);
+        }
+        return tip;
+    }
+
+    /**
+     * Copy the entries seen by a dictionary, putting an entry. An existing
+     * entry keeps its position.
+     *
+     * @param size Amount of entries seen by the dictionary
+     * @param name Entry name
+     * @param value Entry value
+     * @return A new ledger
+     */
+    synchronized Ledger with(
+        final int size,
+        final Name name,
+        final Type<?> value
+    ) {
+        final Ledger ledger = new Ledger(size + 1);
+        for (int idx = 0; idx < size; ++idx) {
+            final Name key = this.names.get(idx);
+            if (key.equals(name)) {
+                ledger.append(idx, key, value);
+            } else {
+                ledger.append(idx, key, this.values.get(idx));
+            }
+        }
+        ledger.append(size, name, value);
+        return ledger;
+    }
+
+    /**
+     * Position of an entry seen by a dictionary.
+     *
+     * @param size Amount of entries seen by the dictionary
+     * @param name Entry name
+     * @return The entry position or -1 if there isn't one
+     */
+    synchronized int position(final int size, final Name name) {
+        final Integer position = this.positions.get(name);
+        int result = -1;
+        if (position != null && position < size) {
+            result = position;
+        }
+        return result;
+    }
+
+    /**
+     * Entry name.
+     *
+     * @param position Entry position
+     * @return The entry name
+     */
+    synchronized Name name(final int position) {
+        return this.names.get(position);
+    }
+
+    /**
+     * Entry value.
+     *
+     * @param position Entry position
+     * @return The entry value
+     */
+    synchronized Type<?> value(final int position) {
+        return this.values.get(position);
+    }
+
+    /**
+     * Amount of entries.
+     *
+     * @return Amount of entries
+     */
+    synchronized int size() {
+        return this.names.size();
+    }
+}
@@ -4,10 +4,9 @@
  */
 package com.github.fabriciofx.cactoos.pdf.type;
 
+import com.github.fabriciofx.cactoos.pdf.Sink;
 import com.github.fabriciofx.cactoos.pdf.Type;
 import java.nio.charset.StandardCharsets;
-import java.util.Locale;
-import org.cactoos.text.FormattedText;
 
 /**
  * Literal.
@@ -41,6 +40,15 @@ public final class Literal implements Type<String> {
 
     @Override
     public String asString() throws Exception {
-        return new FormattedText("(%s)", Locale.ENGLISH, this.text).asString();
+        return new StringBuilder(this.text.length() + 2)
+            .append('(')
+            .append(this.text)
+            .append(')')
+            .toString();
+    }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append((byte) '(').append(this.text).append((byte) ')');
     }
 }
@@ -4,10 +4,9 @@
  */
 package com.github.fabriciofx.cactoos.pdf.type;
 
+import com.github.fabriciofx.cactoos.pdf.Sink;
 import com.github.fabriciofx.cactoos.pdf.Type;
 import java.nio.charset.StandardCharsets;
-import java.util.Locale;
-import org.cactoos.text.FormattedText;
 
 /**
  * Name.
@@ -41,7 +40,12 @@ public final class Name implements Type<String> {
 
     @Override
     public String asString() throws Exception {
-        return new FormattedText("/%s", Locale.ENGLISH, this.text).asString();
+        return "/".concat(this.text);
+    }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append((byte) '/').append(this.text);
     }
 
     @Override
@@ -4,15 +4,30 @@
  */
 package com.github.fabriciofx.cactoos.pdf.type;
 
+import com.github.fabriciofx.cactoos.pdf.Sink;
 import com.github.fabriciofx.cactoos.pdf.Type;
-import java.nio.ByteBuffer;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Real.
  *
+ * <p>It is written with up to five fractional digits, without trailing
+ * zeros and never in exponent notation, which PDF does not allow.
+ *
  * @since 0.0.1
  */
 public final class Real implements Type<Double> {
+    /**
+     * Maximum amount of fractional digits.
+     */
+    private static final int PRECISION = 5;
+
+    /**
+     * Ten raised to the maximum amount of fractional digits.
+     */
+    private static final double SCALE = 1.0e5;
+
     /**
      * Value.
      */
@@ -34,13 +49,24 @@ public final class Real implements Type<Double> {
 
     @Override
     public byte[] asBytes() throws Exception {
-        final ByteBuffer buffer = ByteBuffer.allocate(Double.BYTES);
-        buffer.putDouble(this.num);
-        return buffer.array();
+        final Sink sink = new ByteSink(24);
+        this.writeTo(sink);
+        return sink.toByteArray();
     }
 
     @Override
     public String asString() throws Exception {
-        return Double.toString(this.num);
+        return new String(this.asBytes(), StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        int precision = Real.PRECISION;
+        long units = Math.round(Math.abs(this.num) * Real.SCALE);
+        while (precision > 0 && units % 10 == 0) {
+            units = units / 10;
+            --precision;
+        }
+        sink.append(this.num, precision);
     }
 }
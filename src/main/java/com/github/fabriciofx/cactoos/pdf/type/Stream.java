@@ -4,13 +4,12 @@
  */
 package com.github.fabriciofx.cactoos.pdf.type;
 
+import com.github.fabriciofx.cactoos.pdf.Sink;
 import com.github.fabriciofx.cactoos.pdf.Type;
-import java.io.ByteArrayOutputStream;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
 import java.nio.charset.StandardCharsets;
-import java.util.Locale;
 import org.cactoos.Bytes;
 import org.cactoos.bytes.BytesOf;
-import org.cactoos.text.FormattedText;
 
 /**
  * Stream.
@@ -48,20 +47,20 @@ public final class Stream implements Type<byte[]> {
 
     @Override
     public byte[] asBytes() throws Exception {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write("\nstream\n".getBytes(StandardCharsets.UTF_8));
-        baos.write(this.bytes.asBytes());
-        baos.write("\nendstream".getBytes(StandardCharsets.UTF_8));
-        return baos.toByteArray();
+        final byte[] content = this.bytes.asBytes();
+        final Sink sink = new ByteSink(content.length + 18);
+        Stream.write(sink, content);
+        return sink.toByteArray();
     }
 
     @Override
     public String asString() throws Exception {
-        return new FormattedText(
-            "\nstream\n%s\nendstream",
-            Locale.ENGLISH,
-            new String(this.bytes.asBytes(), StandardCharsets.UTF_8)
-        ).asString();
+        return new String(this.asBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void writeTo(final Sink sink) throws Exception {
+        Stream.write(sink, this.bytes.asBytes());
     }
 
     /**
@@ -73,4 +72,14 @@ public final class Stream implements Type<byte[]> {
     public int length() throws Exception {
         return this.bytes.asBytes().length;
     }
+
+    /**
+     * Write the stream into a sink.
+     *
+     * @param sink Where the stream will be written
+     * @param content Stream content
+     */
+    private static void write(final Sink sink, final byte[] content) {
+        sink.append("\nstream\n").append(content).append("\nendstream");
+    }
 }
@@ -4,8 +4,10 @@
  */
 package com.github.fabriciofx.cactoos.pdf.type;
 
+import com.github.fabriciofx.cactoos.pdf.Sink;
 import com.github.fabriciofx.cactoos.pdf.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Text.
@@ -59,4 +61,54 @@ public final class Text implements Type<String> {
     public String asString() throws Exception {
         return this.txt;
     }
+
+    @Override
+    public void writeTo(final Sink sink) {
+        sink.append(this.txt);
+    }
+
+    /**
+     * Renumber this text, if it is an indirect reference ("12 0 R").
+     *
+     * @param numbers Gives the new number of an object number
+     * @return A new text with the reference renumbered or this text
+     */
+    public Text renumbered(final IntUnaryOperator numbers) {
+        final int space = this.txt.indexOf(' ');
+        final int end = this.txt.length() - 2;
+        Text result = this;
+        if (space > 0 && end > space + 1 && this.txt.endsWith(" R")
+            && Text.digits(this.txt, 0, space)
+            && Text.digits(this.txt, space + 1, end)) {
+            result = new Text(
+                Integer.toString(
+                    numbers.applyAsInt(
+                        Integer.parseInt(this.txt.substring(0, space))
+                    )
+                ).concat(this.txt.substring(space))
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Check if a part of a text has only digits.
+     *
+     * @param text The text
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return True if there are only digits, false otherwise
+     */
+    private static boolean digits(
+        final String text,
+        final int start,
+        final int end
+    ) {
+        boolean digits = true;
+        for (int idx = start; idx < end && digits; ++idx) {
+            final char chr = text.charAt(idx);
+            digits = chr >= '0' && chr <= '9';
+        }
+        return digits;
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Structure;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import java.io.OutputStream;
+
+/**
+ * Classic file structure (PDF 1.3).
+ *
+ * <p>Every indirect is written uncompressed and the cross-reference is a
+ * text table followed by the trailer.
+ *
+ * @since 0.0.1
+ */
+public final class Classic implements Structure {
+    @Override
+    public String version() {
+        return "1.3";
+    }
+
+    @Override
+    public Xref xref(final Id id, final OutputStream output, final long start) {
+        return new XrefTable(id, output, start);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Structure;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import com.github.fabriciofx.cactoos.pdf.content.Compression;
+import java.io.OutputStream;
+
+/**
+ * Compressed file structure (PDF 1.5).
+ *
+ * <p>Indirects without a stream are packed into compressed object streams
+ * and the cross-reference is a compressed binary stream.
+ *
+ * @since 0.0.1
+ */
+public final class Compressed implements Structure {
+    /**
+     * Default amount of objects in an object stream.
+     */
+    private static final int OBJECTS = 100;
+
+    /**
+     * Maximum amount of objects in an object stream.
+     */
+    private final int objects;
+
+    /**
+     * Compression of object streams and cross-reference.
+     */
+    private final Compression compression;
+
+    /**
+     * Ctor.
+     */
+    public Compressed() {
+        this(Compressed.OBJECTS);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param objects Maximum amount of objects in an object stream
+     */
+    public Compressed(final int objects) {
+        this(objects, new Compression());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param objects Maximum amount of objects in an object stream
+     * @param compression Compression of object streams and cross-reference
+     */
+    public Compressed(final int objects, final Compression compression) {
+        this.objects = objects;
+        this.compression = compression;
+    }
+
+    @Override
+    public String version() {
+        return "1.5";
+    }
+
+    @Override
+    public Xref xref(final Id id, final OutputStream output, final long start) {
+        return new XrefStream(
+            id,
+            output,
+            start,
+            this.objects,
+            this.compression
+        );
+    }
+}
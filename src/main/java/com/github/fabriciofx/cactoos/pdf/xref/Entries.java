@@ -0,0 +1,159 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+/**
+ * Cross-reference entries, indexed by object number.
+ *
+ * <p>Each entry has a type (free, in use or compressed) and two fields. For
+ * an object in use, the fields are its byte offset and generation number.
+ * For a compressed object, the fields are the object stream number and the
+ * object index inside it.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.0.1
+ */
+final class Entries {
+    /**
+     * Free entry.
+     */
+    static final int FREE = 0;
+
+    /**
+     * Entry of an object in use.
+     */
+    static final int IN_USE = 1;
+
+    /**
+     * Entry of an object inside an object stream.
+     */
+    static final int COMPRESSED = 2;
+
+    /**
+     * Entry types.
+     */
+    private byte[] types;
+
+    /**
+     * First fields.
+     */
+    private long[] firsts;
+
+    /**
+     * Second fields.
+     */
+    private int[] seconds;
+
+    /**
+     * Ctor.
+     */
+    Entries() {
+        this.types = new byte[16];
+        this.firsts = new long[16];
+        this.seconds = new int[16];
+    }
+
+    /**
+     * Put an entry.
+     *
+     * @param number Object number
+     * @param type Entry type
+     * @param first First field
+     * @param second Second field
+     */
+    void put(
+        final int number,
+        final int type,
+        final long first,
+        final int second
+    ) {
+        if (number >= this.types.length) {
+            final int length = Math.max(number + 1, this.types.length * 2);
+            final byte[] tps = new byte[length];
+            final long[] fsts = new long[length];
+            final int[] scds = new int[length];
+            System.arraycopy(this.types, 0, tps, 0, this.types.length);
+            System.arraycopy(this.firsts, 0, fsts, 0, this.firsts.length);
+            System.arraycopy(this.seconds, 0, scds, 0, this.seconds.length);
+            this.types = tps;
+            this.firsts = fsts;
+            this.seconds = scds;
+        }
+        this.types[number] = (byte) type;
+        this.firsts[number] = first;
+        this.seconds[number] = second;
+    }
+
+    /**
+     * Entry type.
+     *
+     * @param number Object number
+     * @return The entry type, free if there is no entry
+     */
+    int type(final int number) {
+        int type = Entries.FREE;
+        if (number < this.types.length) {
+            type = this.types[number];
+        }
+        return type;
+    }
+
+    /**
+     * First field of an entry.
+     *
+     * @param number Object number
+     * @return The first field
+     */
+    long first(final int number) {
+        long first = 0;
+        if (number < this.firsts.length) {
+            first = this.firsts[number];
+        }
+        return first;
+    }
+
+    /**
+     * Second field of an entry.
+     *
+     * @param number Object number
+     * @return The second field
+     */
+    int second(final int number) {
+        int second = 0;
+        if (number < this.seconds.length) {
+            second = this.seconds[number];
+        }
+        return second;
+    }
+
+    /**
+     * Next free object number, to link the free entries in a list.
+     *
+     * @param number Object number
+     * @param size Amount of entries
+     * @return The next free object number or zero if there is none
+     */
+    int next(final int number, final int size) {
+        int next = number + 1;
+        while (next < size && this.type(next) != Entries.FREE) {
+            ++next;
+        }
+        return next % size;
+    }
+
+    /**
+     * Highest object number with an entry.
+     *
+     * @return The highest object number or zero if there is no entry
+     */
+    int last() {
+        int last = this.types.length - 1;
+        while (last > 0 && this.types[last] == Entries.FREE) {
+            --last;
+        }
+        return last;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Structure;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parallel file structure.
+ *
+ * <p>Decorator that renders the indirects of a structure in an executor
+ * and writes them in the order they were added, so the document is
+ * byte-identical to the one written by the decorated structure.
+ *
+ * @since 0.0.1
+ */
+public final class Parallel implements Structure {
+    /**
+     * File structure.
+     */
+    private final Structure origin;
+
+    /**
+     * Executor that renders the indirects.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Maximum amount of indirects being rendered at same time.
+     */
+    private final int window;
+
+    /**
+     * Ctor.
+     *
+     * @param structure File structure
+     */
+    public Parallel(final Structure structure) {
+        this(structure, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param structure File structure
+     * @param executor Executor that renders the indirects
+     */
+    public Parallel(
+        final Structure structure,
+        final ExecutorService executor
+    ) {
+        this(
+            structure,
+            executor,
+            Runtime.getRuntime().availableProcessors() * 4
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param structure File structure
+     * @param executor Executor that renders the indirects
+     * @param window Maximum amount of indirects being rendered at same time
+     */
+    public Parallel(
+        final Structure structure,
+        final ExecutorService executor,
+        final int window
+    ) {
+        this.origin = structure;
+        this.executor = executor;
+        this.window = window;
+    }
+
+    @Override
+    public String version() {
+        return this.origin.version();
+    }
+
+    @Override
+    public Xref xref(final Id id, final OutputStream output, final long start) {
+        return new ParallelXref(
+            this.origin.xref(id, output, start),
+            this.executor,
+            this.window
+        );
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import com.github.fabriciofx.cactoos.pdf.indirect.StickyIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Parallel cross-reference.
+ *
+ * <p>Each added indirect with a stream is rendered in an executor while the
+ * next ones are collected. Rendered indirects are handed to the decorated
+ * cross-reference in the order they were added, so offsets and output are
+ * the same as writing them one after another. At most {@code window}
+ * indirects are kept waiting, to bound the memory used by rendered bytes.
+ *
+ * <p>An indirect without a stream is cheap to render, so it is handed over
+ * right away, once the ones waiting are written. The decorated
+ * cross-reference then sees it at the same point of the document as in
+ * serial mode, so object numbers it takes from the id, as for object
+ * streams, are the same too.
+ *
+ * <p>Indirects must be added from a single thread.
+ *
+ * @since 0.0.1
+ */
+public final class ParallelXref implements Xref {
+    /**
+     * Cross-reference.
+     */
+    private final Xref origin;
+
+    /**
+     * Executor that renders the indirects.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Maximum amount of indirects waiting to be written.
+     */
+    private final int window;
+
+    /**
+     * Indirects waiting to be written, in the order they were added.
+     */
+    private final Deque<StickyIndirect> waiting;
+
+    /**
+     * Renderings of the waiting indirects.
+     */
+    private final Deque<Future<byte[]>> renderings;
+
+    /**
+     * Ctor.
+     *
+     * @param xref Cross-reference
+     * @param executor Executor that renders the indirects
+     * @param window Maximum amount of indirects waiting to be written
+     */
+    public ParallelXref(
+        final Xref xref,
+        final ExecutorService executor,
+        final int window
+    ) {
+        this.origin = xref;
+        this.executor = executor;
+        this.window = window;
+        this.waiting = new ArrayDeque<>(window + 1);
+        this.renderings = new ArrayDeque<>(window + 1);
+    }
+
+    @Override
+    public void add(final Indirect indirect) throws Exception {
+        if (indirect.hasStream()) {
+            final StickyIndirect sticky = new StickyIndirect(indirect);
+            this.waiting.add(sticky);
+            this.renderings.add(this.executor.submit(sticky::asBytes));
+            this.drain(this.window);
+        } else {
+            this.drain(0);
+            this.origin.add(indirect);
+        }
+    }
+
+    @Override
+    public boolean contains(final Indirect indirect) {
+        boolean found = this.origin.contains(indirect);
+        if (!found) {
+            final int number = indirect.reference().number();
+            for (final Indirect waits : this.waiting) {
+                if (waits.reference().number() == number) {
+                    found = true;
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void finish(
+        final Reference root,
+        final Reference info
+    ) throws Exception {
+        this.drain(0);
+        this.origin.finish(root, info);
+    }
+
+    /**
+     * Write rendered indirects, in order, until at most {@code limit}
+     * indirects are waiting. Indirects already rendered are written even
+     * below the limit.
+     *
+     * @param limit Maximum amount of indirects left waiting
+     * @throws Exception if fails
+     */
+    private void drain(final int limit) throws Exception {
+        while (!this.renderings.isEmpty()
+            && (this.renderings.size() > limit
+            || this.renderings.peek().isDone())) {
+            this.renderings.poll().get();
+            this.origin.add(this.waiting.poll());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Structure;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import java.io.OutputStream;
+
+/**
+ * Renumbered file structure.
+ *
+ * <p>Decorator that gives the indirects dense object numbers, in the order
+ * they are written, and rewrites the references to them. The
+ * cross-reference has no free entries besides the first one.
+ *
+ * <p>Only references ({@code 12 0 R}) are renumbered. Resource names, such
+ * as {@code /F1} of a font or {@code /I2} of an image, are built from the
+ * number the id gave to their object and are kept as they are. So the
+ * same objects written in the same order produce the same bytes only when
+ * the id gave them the same numbers.
+ *
+ * <p>To keep rendering in parallel, decorate it with {@link Parallel}, not
+ * the other way around.
+ *
+ * @since 0.0.1
+ */
+public final class Renumbered implements Structure {
+    /**
+     * File structure.
+     */
+    private final Structure origin;
+
+    /**
+     * Ctor.
+     *
+     * @param structure File structure
+     */
+    public Renumbered(final Structure structure) {
+        this.origin = structure;
+    }
+
+    @Override
+    public String version() {
+        return this.origin.version();
+    }
+
+    @Override
+    public Xref xref(final Id id, final OutputStream output, final long start) {
+        final Id dense = new Serial();
+        return new RenumberedXref(
+            dense,
+            this.origin.xref(dense, output, start)
+        );
+    }
+}
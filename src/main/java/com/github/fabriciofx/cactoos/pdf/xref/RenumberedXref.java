@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Renumbered cross-reference.
+ *
+ * <p>Each object number gets a new one from the id the first time it is
+ * seen, either because its indirect is added or because an added indirect
+ * refers to it. References are renumbered in the order they appear in the
+ * dictionary of an indirect. Names are never changed, even the ones built
+ * from an object number, such as the resource names of fonts and images.
+ *
+ * <p>Indirects must be added from a single thread.
+ *
+ * @since 0.0.1
+ */
+public final class RenumberedXref implements Xref {
+    /**
+     * Id that gives the new numbers.
+     */
+    private final Id id;
+
+    /**
+     * Cross-reference.
+     */
+    private final Xref origin;
+
+    /**
+     * Object numbers already written.
+     */
+    private final BitSet written;
+
+    /**
+     * New number of each object number, zero if it has not one yet.
+     */
+    private int[] numbers;
+
+    /**
+     * Ctor.
+     *
+     * @param id Id that gives the new numbers
+     * @param xref Cross-reference
+     */
+    public RenumberedXref(final Id id, final Xref xref) {
+        this.id = id;
+        this.origin = xref;
+        this.written = new BitSet();
+        this.numbers = new int[16];
+    }
+
+    @Override
+    public void add(final Indirect indirect) throws Exception {
+        final Reference reference = indirect.reference();
+        final int number = this.number(reference.number());
+        this.written.set(reference.number());
+        this.origin.add(
+            new DefaultIndirect(
+                number,
+                reference.generation(),
+                indirect.dictionary().renumbered(this::number)
+            )
+        );
+    }
+
+    @Override
+    public boolean contains(final Indirect indirect) {
+        return this.written.get(indirect.reference().number());
+    }
+
+    @Override
+    public void finish(
+        final Reference root,
+        final Reference info
+    ) throws Exception {
+        this.origin.finish(
+            new Reference(this.number(root.number()), root.generation()),
+            new Reference(this.number(info.number()), info.generation())
+        );
+    }
+
+    /**
+     * New number of an object number, given by the id the first time.
+     *
+     * @param old Object number
+     * @return The new object number
+     */
+    private int number(final int old) {
+        if (old >= this.numbers.length) {
+            this.numbers = Arrays.copyOf(
+                this.numbers,
+                Math.max(old + 1, this.numbers.length * 2)
+            );
+        }
+        if (this.numbers[old] == 0) {
+            this.numbers[old] = this.id.increment();
+        }
+        return this.numbers[old];
+    }
+}
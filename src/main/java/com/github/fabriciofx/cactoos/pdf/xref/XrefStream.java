@@ -0,0 +1,353 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import com.github.fabriciofx.cactoos.pdf.content.Compression;
+import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.type.Array;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import com.github.fabriciofx.cactoos.pdf.type.Int;
+import com.github.fabriciofx.cactoos.pdf.type.Name;
+import com.github.fabriciofx.cactoos.pdf.type.Stream;
+import com.github.fabriciofx.cactoos.pdf.type.Text;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import org.cactoos.text.FormattedText;
+
+/**
+ * Cross-reference stream (PDF 1.5).
+ *
+ * <p>Each added indirect is serialized once. Indirects with a stream are
+ * written as soon as they are added. The others are packed, as they were
+ * serialized, into compressed object streams, and each object stream is
+ * written as soon as it is full. An object stream takes the next number of
+ * the id when it is written, so the same document always gets the same
+ * numbers. At the end, the cross-reference is written as a compressed
+ * binary stream that also works as the trailer.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class XrefStream implements Xref {
+    /**
+     * End of a serialized indirect.
+     */
+    private static final int ENDOBJ = "\nendobj\n".length();
+
+    /**
+     * Start of a serialized indirect, after its object number.
+     */
+    private static final int OBJ = " 0 obj\n".length();
+
+    /**
+     * Id.
+     */
+    private final Id id;
+
+    /**
+     * Output stream.
+     */
+    private final OutputStream output;
+
+    /**
+     * Maximum amount of objects in an object stream.
+     */
+    private final int objects;
+
+    /**
+     * Entries.
+     */
+    private final Entries entries;
+
+    /**
+     * Pairs of object number and offset of the pending object stream.
+     */
+    private final Sink pairs;
+
+    /**
+     * Objects of the pending object stream.
+     */
+    private final Sink pending;
+
+    /**
+     * Buffer reused to serialize each indirect.
+     */
+    private final Sink sink;
+
+    /**
+     * Object numbers in the pending object stream.
+     */
+    private final int[] numbers;
+
+    /**
+     * Compression of object streams and of the cross-reference stream.
+     */
+    private final Compression compression;
+
+    /**
+     * Amount of objects in the pending object stream.
+     */
+    private int packed;
+
+    /**
+     * Amount of bytes already written.
+     */
+    private long total;
+
+    /**
+     * Ctor.
+     *
+     * @param id Id
+     * @param output Output stream
+     * @param start Amount of bytes written before the first indirect
+     * @param objects Maximum amount of objects in an object stream
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public XrefStream(
+        final Id id,
+        final OutputStream output,
+        final long start,
+        final int objects
+    ) {
+        this(id, output, start, objects, new Compression());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param id Id
+     * @param output Output stream
+     * @param start Amount of bytes written before the first indirect
+     * @param objects Maximum amount of objects in an object stream
+     * @param compression Compression of object streams and cross-reference
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public XrefStream(
+        final Id id,
+        final OutputStream output,
+        final long start,
+        final int objects,
+        final Compression compression
+    ) {
+        this.id = id;
+        this.output = output;
+        this.objects = objects;
+        this.entries = new Entries();
+        this.pairs = new ByteSink();
+        this.pending = new ByteSink();
+        this.sink = new ByteSink();
+        this.numbers = new int[objects];
+        this.compression = compression;
+        this.total = start;
+    }
+
+    @Override
+    public void add(final Indirect indirect) throws Exception {
+        this.sink.truncate(0);
+        indirect.writeTo(this.sink);
+        final Reference reference = indirect.reference();
+        if (indirect.hasStream() || reference.generation() != 0) {
+            this.flush(reference);
+        } else {
+            this.pack(reference.number());
+        }
+    }
+
+    @Override
+    public boolean contains(final Indirect indirect) {
+        return this.entries.type(indirect.reference().number())
+            != Entries.FREE;
+    }
+
+    @Override
+    public void finish(
+        final Reference root,
+        final Reference info
+    ) throws Exception {
+        this.compress();
+        final int number = this.id.increment();
+        final long offset = this.total;
+        this.entries.put(number, Entries.IN_USE, offset, 0);
+        final int size = Math.max(this.id.value(), number + 1);
+        final int width = XrefStream.width(Math.max(offset, size));
+        final ByteArrayOutputStream table = new ByteArrayOutputStream(
+            size * (width + 3)
+        );
+        for (int num = 0; num < size; ++num) {
+            final int type = this.entries.type(num);
+            table.write(type);
+            if (type == Entries.FREE) {
+                XrefStream.number(table, this.entries.next(num, size), width);
+                XrefStream.number(table, 65_535, 2);
+            } else {
+                XrefStream.number(table, this.entries.first(num), width);
+                XrefStream.number(table, this.entries.second(num), 2);
+            }
+        }
+        final byte[] stream = this.compression.deflated(table.toByteArray());
+        this.write(
+            new DefaultIndirect(
+                number,
+                0,
+                new Dictionary()
+                    .add("Type", new Name("XRef"))
+                    .add("Size", new Int(size))
+                    .add("W", new Array(new Int(1), new Int(width), new Int(2)))
+                    .add("Root", new Text(root.asString()))
+                    .add("Info", new Text(info.asString()))
+                    .add("Filter", new Name("FlateDecode"))
+                    .add("Length", new Int(stream.length))
+                    .with(new Stream(stream))
+            )
+        );
+        final byte[] startxref = new FormattedText(
+            "startxref\n%d\n",
+            Locale.ENGLISH,
+            offset
+        ).asString().getBytes(StandardCharsets.UTF_8);
+        this.output.write(startxref);
+        this.total = this.total + startxref.length;
+    }
+
+    /**
+     * Pack the serialized indirect into the pending object stream, writing
+     * the object stream if it gets full.
+     *
+     * @param number Object number of the serialized indirect
+     * @throws Exception if fails
+     */
+    private void pack(final int number) throws Exception {
+        this.pairs.append(number)
+            .append((byte) ' ')
+            .append(this.pending.size())
+            .append((byte) ' ');
+        this.pending.append(
+            this.sink.toByteArray(
+                Integer.toString(number).length() + XrefStream.OBJ,
+                this.sink.size() - XrefStream.ENDOBJ
+            )
+        ).append((byte) '\n');
+        this.entries.put(number, Entries.COMPRESSED, 0, this.packed);
+        this.numbers[this.packed] = number;
+        ++this.packed;
+        if (this.packed == this.objects) {
+            this.compress();
+        }
+    }
+
+    /**
+     * Compress and write the pending object stream, if there is one.
+     *
+     * @throws Exception if fails
+     */
+    private void compress() throws Exception {
+        if (this.packed > 0) {
+            final int first = this.pairs.size();
+            this.pairs.append(this.pending.toByteArray());
+            final byte[] stream = this.compression.deflated(
+                this.pairs.toByteArray()
+            );
+            final int count = this.packed;
+            final int number = this.id.increment();
+            for (int pos = 0; pos < count; ++pos) {
+                this.entries.put(
+                    this.numbers[pos],
+                    Entries.COMPRESSED,
+                    number,
+                    pos
+                );
+            }
+            this.pairs.truncate(0);
+            this.pending.truncate(0);
+            this.packed = 0;
+            this.write(
+                new DefaultIndirect(
+                    number,
+                    0,
+                    new Dictionary()
+                        .add("Type", new Name("ObjStm"))
+                        .add("N", new Int(count))
+                        .add("First", new Int(first))
+                        .add("Filter", new Name("FlateDecode"))
+                        .add("Length", new Int(stream.length))
+                        .with(new Stream(stream))
+                )
+            );
+        }
+    }
+
+    /**
+     * Serialize and write an indirect into the output stream.
+     *
+     * @param indirect Indirect to be written
+     * @throws Exception if fails
+     */
+    private void write(final Indirect indirect) throws Exception {
+        this.sink.truncate(0);
+        indirect.writeTo(this.sink);
+        this.flush(indirect.reference());
+    }
+
+    /**
+     * Write the serialized indirect into the output stream.
+     *
+     * @param reference Reference of the serialized indirect
+     * @throws IOException if fails
+     */
+    private void flush(final Reference reference) throws IOException {
+        this.entries.put(
+            reference.number(),
+            Entries.IN_USE,
+            this.total,
+            reference.generation()
+        );
+        this.sink.writeTo(this.output);
+        this.total = this.total + this.sink.size();
+    }
+
+    /**
+     * Amount of bytes needed to represent a number.
+     *
+     * @param value The number
+     * @return Amount of bytes
+     */
+    private static int width(final long value) {
+        int width = 1;
+        long rest = value >>> 8;
+        while (rest > 0) {
+            ++width;
+            rest = rest >>> 8;
+        }
+        return width;
+    }
+
+    /**
+     * Write a number as big-endian bytes.
+     *
+     * @param out Where the number will be written
+     * @param value The number
+     * @param width Amount of bytes
+     */
+    private static void number(
+        final ByteArrayOutputStream out,
+        final long value,
+        final int width
+    ) {
+        for (int idx = width - 1; idx >= 0; --idx) {
+            out.write((int) (value >>> (idx * 8)) & 0xFF);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import org.cactoos.text.FormattedText;
+
+/**
+ * Cross-reference table.
+ *
+ * <p>Each added indirect is written into the output stream and its byte
+ * offset is recorded once, so the cross-reference table is built in a
+ * single pass, no matter how many objects there are. Only object numbers
+ * and offsets are kept, so there is no way to get an indirect back after
+ * adding it.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.0.1
+ */
+public final class XrefTable implements Xref {
+    /**
+     * Length of a cross-reference table entry.
+     */
+    private static final int ENTRY = 19;
+
+    /**
+     * Id.
+     */
+    private final Id id;
+
+    /**
+     * Output stream.
+     */
+    private final OutputStream output;
+
+    /**
+     * Entries.
+     */
+    private final Entries entries;
+
+    /**
+     * Buffer reused to serialize each indirect.
+     */
+    private final Sink sink;
+
+    /**
+     * Amount of bytes already written.
+     */
+    private long total;
+
+    /**
+     * Ctor.
+     *
+     * @param id Id
+     * @param output Output stream
+     * @param start Amount of bytes written before the first indirect
+     */
+    public XrefTable(final Id id, final OutputStream output, final long start) {
+        this.id = id;
+        this.output = output;
+        this.entries = new Entries();
+        this.sink = new ByteSink();
+        this.total = start;
+    }
+
+    @Override
+    public void add(final Indirect indirect) throws Exception {
+        this.sink.truncate(0);
+        indirect.writeTo(this.sink);
+        this.sink.writeTo(this.output);
+        this.entries.put(
+            indirect.reference().number(),
+            Entries.IN_USE,
+            this.total,
+            indirect.reference().generation()
+        );
+        this.total = this.total + this.sink.size();
+    }
+
+    @Override
+    public boolean contains(final Indirect indirect) {
+        return this.entries.type(indirect.reference().number())
+            != Entries.FREE;
+    }
+
+    @Override
+    public void finish(
+        final Reference root,
+        final Reference info
+    ) throws Exception {
+        final int size = Math.max(this.id.value(), this.entries.last() + 1);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(
+            XrefTable.ENTRY * (size + 4)
+        );
+        out.write(
+            new FormattedText(
+                "xref\n0 %d\n",
+                Locale.ENGLISH,
+                size
+            ).asString().getBytes(StandardCharsets.UTF_8)
+        );
+        final byte[] entry = new byte[XrefTable.ENTRY];
+        for (int number = 0; number < size; ++number) {
+            if (this.entries.type(number) == Entries.FREE) {
+                XrefTable.entry(
+                    entry,
+                    this.entries.next(number, size),
+                    65_535,
+                    'f'
+                );
+            } else {
+                XrefTable.entry(
+                    entry,
+                    this.entries.first(number),
+                    this.entries.second(number),
+                    'n'
+                );
+            }
+            out.write(entry);
+        }
+        out.write(
+            new FormattedText(
+                "trailer\n<< /Size %d /Root %s /Info %s >>\nstartxref\n%d\n",
+                Locale.ENGLISH,
+                size,
+                root.asString(),
+                info.asString(),
+                this.total
+            ).asString().getBytes(StandardCharsets.UTF_8)
+        );
+        out.writeTo(this.output);
+    }
+
+    /**
+     * Fill a cross-reference entry: "nnnnnnnnnn ggggg n\n".
+     *
+     * @param entry Entry bytes
+     * @param offset Object offset
+     * @param generation Generation number
+     * @param type Entry type ('n' in use, 'f' free)
+     */
+    private static void entry(
+        final byte[] entry,
+        final long offset,
+        final int generation,
+        final char type
+    ) {
+        long value = offset;
+        for (int idx = 9; idx >= 0; --idx) {
+            entry[idx] = (byte) ('0' + value % 10);
+            value = value / 10;
+        }
+        entry[10] = ' ';
+        int gen = generation;
+        for (int idx = 15; idx >= 11; --idx) {
+            entry[idx] = (byte) ('0' + gen % 10);
+            gen = gen / 10;
+        }
+        entry[16] = ' ';
+        entry[17] = (byte) type;
+        entry[18] = '\n';
+    }
+}
@@ -17,6 +17,8 @@ import com.github.fabriciofx.cactoos.pdf.resource.font.Helvetica;
 import com.github.fabriciofx.cactoos.pdf.resource.font.Symbol;
 import com.github.fabriciofx.cactoos.pdf.resource.font.TimesRoman;
 import com.github.fabriciofx.cactoos.pdf.resource.font.ZapfDingbats;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.HeadOf;
 import org.cactoos.io.InputOf;
@@ -153,6 +155,36 @@ final class DocumentTest {
         ).affirm();
     }
 
+    @Test
+    void writeDocumentIntoChannel() throws Exception {
+        final Id id = new Serial();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Document(
+            id,
+            new DefaultPages(
+                id,
+                new DefaultPage(
+                    id,
+                    new Contents(
+                        new Text(
+                            id,
+                            new TimesRoman(id, 18),
+                            0,
+                            500,
+                            80,
+                            new TextOf("Hello World!")
+                        )
+                    )
+                )
+            )
+        ).writeTo(Channels.newChannel(output));
+        new Assertion<>(
+            "Must stream hello world PDF document into a channel",
+            new BytesOf(new ResourceOf("document/hello-world.pdf")).asBytes(),
+            new IsEqual<>(output.toByteArray())
+        ).affirm();
+    }
+
     @Test
     void crossReference() {
         new Assertion<>(
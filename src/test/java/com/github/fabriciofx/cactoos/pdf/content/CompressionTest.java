@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.content;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Test case for {@link Compression}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class CompressionTest {
+    @Test
+    void inflateChunksToOriginalBytes() throws Exception {
+        final byte[] bytes = CompressionTest.table(20_000);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            new Assertion<>(
+                "Must inflate a stream compressed in chunks",
+                CompressionTest.inflated(
+                    new Compression(
+                        Deflater.DEFAULT_COMPRESSION,
+                        executor,
+                        64 * 1024
+                    ).deflated(bytes)
+                ),
+                new IsEqual<>(bytes)
+            ).affirm();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void compressChunksAsWellAsSerial() throws Exception {
+        final byte[] bytes = CompressionTest.table(20_000);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final int parallel = new Compression(
+                Deflater.DEFAULT_COMPRESSION,
+                executor,
+                64 * 1024
+            ).deflated(bytes).length;
+            final int serial = new Compression().deflated(bytes).length;
+            new Assertion<>(
+                "Must compress in chunks almost as well as serially",
+                parallel < serial * 1.05,
+                new IsTrue()
+            ).affirm();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void compressChunksFromRenderingThread() throws Exception {
+        final byte[] bytes = CompressionTest.table(20_000);
+        final ExecutorService rendering = Executors.newSingleThreadExecutor();
+        final ExecutorService chunks = Executors.newFixedThreadPool(2);
+        try {
+            new Assertion<>(
+                "Must compress in chunks while its caller waits in its pool",
+                CompressionTest.inflated(
+                    rendering.submit(
+                        () -> new Compression(
+                            Deflater.DEFAULT_COMPRESSION,
+                            chunks,
+                            64 * 1024
+                        ).deflated(bytes)
+                    ).get(1, TimeUnit.MINUTES)
+                ),
+                new IsEqual<>(bytes)
+            ).affirm();
+        } finally {
+            rendering.shutdown();
+            chunks.shutdown();
+        }
+    }
+
+    /**
+     * Build the content stream of a big table.
+     *
+     * @param rows Amount of rows
+     * @return The content stream
+     */
+    private static byte[] table(final int rows) {
+        final StringBuilder table = new StringBuilder();
+        for (int row = 0; row < rows; ++row) {
+            table.append("BT /F1 8 Tf 20.00 ")
+                .append(800 - row % 90 * 8)
+                .append(".00 Td (Item ")
+                .append(row)
+                .append(") Tj 200.00 0.00 Td (")
+                .append(row * 37 % 1000)
+                .append(".")
+                .append(row % 100)
+                .append(") Tj ET\n");
+        }
+        return table.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Inflate a zlib stream.
+     *
+     * @param bytes Compressed bytes
+     * @return Inflated bytes
+     * @throws Exception if fails
+     */
+    private static byte[] inflated(final byte[] bytes) throws Exception {
+        final Inflater inflater = new Inflater();
+        inflater.setInput(bytes);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        while (!inflater.finished()) {
+            final int length = inflater.inflate(buffer);
+            if (length == 0 && inflater.needsInput()) {
+                throw new IllegalStateException("Truncated zlib stream");
+            }
+            out.write(buffer, 0, length);
+        }
+        inflater.end();
+        return out.toByteArray();
+    }
+}
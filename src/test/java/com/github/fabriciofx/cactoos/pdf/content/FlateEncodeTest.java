@@ -6,11 +6,19 @@ package com.github.fabriciofx.cactoos.pdf.content;
 
 import com.github.fabriciofx.cactoos.pdf.Content;
 import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Xref;
 import com.github.fabriciofx.cactoos.pdf.id.Serial;
 import com.github.fabriciofx.cactoos.pdf.resource.font.TimesRoman;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
 import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
@@ -52,4 +60,133 @@ final class FlateEncodeTest {
             new IsEqual<>(expected.toByteArray())
         ).affirm();
     }
+
+    @Test
+    void keepStreamSmallerThanMinimum() throws Exception {
+        final Id id = new Serial();
+        final Content content = new Text(
+            id,
+            new TimesRoman(id, 18),
+            0,
+            0,
+            new TextOf("Hello World!")
+        );
+        new Assertion<>(
+            "Must not compress a stream smaller than the minimum",
+            new FlateEncode(
+                content,
+                new Compression(Deflater.BEST_SPEED, Deflater.FILTERED, 1024)
+            ).indirect().dictionary().contains("Filter"),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void inflateToOriginalContent() throws Exception {
+        final Id id = new Serial();
+        final Content content = new Text(
+            id,
+            new TimesRoman(id, 18),
+            0,
+            0,
+            new TextOf("The quick brown fox jumps over the lazy dog")
+        );
+        final byte[] encoded = new FlateEncode(
+            content,
+            new Compression(Deflater.BEST_COMPRESSION)
+        ).asStream();
+        final Inflater inflater = new Inflater();
+        inflater.setInput(encoded);
+        final byte[] decoded = new byte[1024];
+        final int length = inflater.inflate(decoded);
+        inflater.end();
+        new Assertion<>(
+            "Must inflate to the original content",
+            Arrays.copyOf(decoded, length),
+            new IsEqual<>(content.asStream())
+        ).affirm();
+    }
+
+    @Test
+    void renderOriginOnce() throws Exception {
+        final Id id = new Serial();
+        final AtomicInteger renders = new AtomicInteger();
+        final Content content = new FlateEncode(
+            new Counted(
+                new Text(
+                    id,
+                    new TimesRoman(id, 18),
+                    0,
+                    0,
+                    new TextOf("The quick brown fox jumps over the lazy dog")
+                ),
+                renders
+            )
+        );
+        final Indirect indirect = content.indirect();
+        indirect.dictionary();
+        indirect.asBytes();
+        new Assertion<>(
+            "Must render the origin content only once per indirect",
+            renders.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    /**
+     * Content that counts how many times its stream is rendered.
+     *
+     * @since 0.0.1
+     */
+    private static final class Counted implements Content {
+        /**
+         * Content.
+         */
+        private final Content origin;
+
+        /**
+         * Renders counter.
+         */
+        private final AtomicInteger renders;
+
+        /**
+         * Ctor.
+         *
+         * @param content Content
+         * @param renders Renders counter
+         */
+        Counted(final Content content, final AtomicInteger renders) {
+            this.origin = content;
+            this.renders = renders;
+        }
+
+        @Override
+        public byte[] asStream() throws Exception {
+            this.renders.incrementAndGet();
+            return this.origin.asStream();
+        }
+
+        @Override
+        public List<Resource> resource() {
+            return this.origin.resource();
+        }
+
+        @Override
+        public Reference reference() {
+            return this.origin.reference();
+        }
+
+        @Override
+        public Indirect indirect(final int... parent) throws Exception {
+            return this.origin.indirect(parent);
+        }
+
+        @Override
+        public void print(
+            final Xref xref,
+            final int... parent
+        ) throws Exception {
+            this.origin.print(xref, parent);
+        }
+    }
 }
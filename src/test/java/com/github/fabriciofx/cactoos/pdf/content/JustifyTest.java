@@ -9,15 +9,20 @@ import com.github.fabriciofx.cactoos.pdf.Font;
 import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.id.Serial;
 import com.github.fabriciofx.cactoos.pdf.page.DefaultPage;
+import com.github.fabriciofx.cactoos.pdf.page.Format;
 import com.github.fabriciofx.cactoos.pdf.pages.DefaultPages;
 import com.github.fabriciofx.cactoos.pdf.resource.font.TimesRoman;
+import java.nio.charset.StandardCharsets;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.ResourceOf;
+import org.cactoos.text.Joined;
 import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+import org.llorllale.cactoos.matchers.StartsWith;
 
 /**
  * Test case for {@link Justify}.
@@ -63,4 +68,116 @@ final class JustifyTest {
             new IsEqual<>(actual)
         ).affirm();
     }
+
+    @Test
+    void justifyBetweenMargins() throws Exception {
+        final Id id = new Serial();
+        new Assertion<>(
+            "Must stretch every line but the last to the margins",
+            new String(
+                new Justify(
+                    7.0,
+                    7.0,
+                    Format.A4,
+                    new Text(
+                        id,
+                        new TimesRoman(id, 12),
+                        0,
+                        500,
+                        new Joined(
+                            " ",
+                            "Lorem ea et aliquip culpa aute amet elit nostrud",
+                            "culpa veniam dolore eu irure incididunt. Velit",
+                            "officia occaecat est adipisicing mollit veniam."
+                        )
+                    )
+                ).asStream(),
+                StandardCharsets.UTF_8
+            ),
+            new IsEqual<>(
+                String.join(
+                    "\n",
+                    "BT /F1 12 Tf 198.43 500.00 Td 14.40 TL",
+                    "4.412 Tw",
+                    "(Lorem ea et aliquip culpa aute amet) Tj T*",
+                    "5.793 Tw",
+                    "[(elit nostrud culpa v) 15 (eniam dolore eu)] TJ T*",
+                    "0.324 Tw",
+                    String.join(
+                        "",
+                        "[(irure incididunt. ) 50 (V) 111 (elit of) 25 (f) 20",
+                        " (icia occaecat est)] TJ T*"
+                    ),
+                    "0.000 Tw",
+                    "[(adipisicing mollit v) 15 (eniam.)] TJ T*",
+                    "ET"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void justifyLinesWithRunsOfWhitespace() throws Exception {
+        final Id id = new Serial();
+        new Assertion<>(
+            "Must stretch runs of whitespace as single spaces",
+            new TextOf(
+                new Justify(
+                    7.0,
+                    7.0,
+                    Format.A4,
+                    new Text(
+                        id,
+                        new TimesRoman(id, 12),
+                        0,
+                        500,
+                        new TextOf(
+                            String.join(
+                                "",
+                                "Lorem ea  et\taliquip   culpa",
+                                " aute amet elit\n",
+                                "nostrud culpa \t veniam dolore eu irure",
+                                "  incididunt."
+                            )
+                        )
+                    )
+                ).asStream()
+            ),
+            new IsText(
+                String.join(
+                    "\n",
+                    "BT /F1 12 Tf 198.43 500.00 Td 14.40 TL",
+                    "1.162 Tw",
+                    "(Lorem ea et aliquip culpa aute amet elit) Tj T*",
+                    "4.329 Tw",
+                    "[(nostrud culpa v) 15 (eniam dolore eu irure)] TJ T*",
+                    "0.000 Tw",
+                    "(incididunt.) Tj T*",
+                    "ET"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void justifyTextWithMargins() throws Exception {
+        final Id id = new Serial();
+        new Assertion<>(
+            "Must justify a text moved to the margins",
+            new TextOf(
+                new Justify(
+                    new Margins(
+                        new Text(
+                            id,
+                            new TimesRoman(id, 12),
+                            0,
+                            500,
+                            new TextOf("Lorem ea et aliquip culpa aute amet")
+                        )
+                    )
+                ).asStream()
+            ),
+            new StartsWith("BT /F1 12 Tf 28.35 813.54 Td 14.40 TL")
+        ).affirm();
+    }
 }
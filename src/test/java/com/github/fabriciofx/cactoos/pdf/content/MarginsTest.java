@@ -12,9 +12,11 @@ import com.github.fabriciofx.cactoos.pdf.page.DefaultPage;
 import com.github.fabriciofx.cactoos.pdf.page.Format;
 import com.github.fabriciofx.cactoos.pdf.pages.DefaultPages;
 import com.github.fabriciofx.cactoos.pdf.resource.font.TimesRoman;
+import java.nio.charset.StandardCharsets;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.ResourceOf;
 import org.cactoos.text.Joined;
+import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -69,4 +71,32 @@ final class MarginsTest {
             new IsEqual<>(actual)
         ).affirm();
     }
+
+    @Test
+    void keepEscapedParentheses() throws Exception {
+        final Id id = new Serial();
+        new Assertion<>(
+            "Must move the text and keep its escaped parentheses",
+            new String(
+                new Margins(
+                    new Text(
+                        id,
+                        new TimesRoman(id, 12),
+                        0,
+                        500,
+                        new TextOf("Margins (in cm) are :) fine")
+                    )
+                ).asStream(),
+                StandardCharsets.UTF_8
+            ),
+            new IsEqual<>(
+                String.join(
+                    "",
+                    "BT /F1 12 Tf 28.35 813.54 Td 14.40 TL\n",
+                    "(Margins \\(in cm\\) are :\\) fine) Tj T*\n",
+                    "ET"
+                )
+            )
+        ).affirm();
+    }
 }
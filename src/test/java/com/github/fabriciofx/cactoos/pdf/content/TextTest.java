@@ -4,9 +4,11 @@
  */
 package com.github.fabriciofx.cactoos.pdf.content;
 
+import com.github.fabriciofx.cactoos.pdf.Font;
 import com.github.fabriciofx.cactoos.pdf.Id;
 import com.github.fabriciofx.cactoos.pdf.id.Serial;
 import com.github.fabriciofx.cactoos.pdf.resource.font.TimesRoman;
+import com.github.fabriciofx.cactoos.pdf.text.Wrapped;
 import org.cactoos.text.Joined;
 import org.cactoos.text.TextOf;
 import org.junit.jupiter.api.Test;
@@ -51,6 +53,38 @@ final class TextTest {
         ).affirm();
     }
 
+    @Test
+    void wrapByFontWidth() throws Exception {
+        final Id id = new Serial();
+        final Font font = new TimesRoman(id, 18);
+        new Assertion<>(
+            "Must fill lines up to a width measured by the font",
+            new TextOf(
+                new Text(
+                    id,
+                    font,
+                    0,
+                    0,
+                    new Wrapped(
+                        "The quick brown fox jumps over the lazy dog",
+                        font,
+                        150
+                    )
+                ).asStream()
+            ),
+            new IsText(
+                new Joined(
+                    "\n",
+                    "BT /F1 18 Tf 0.00 0.00 Td 21.60 TL",
+                    "(The quick brown) Tj T*",
+                    "(fox jumps over the) Tj T*",
+                    "(lazy dog) Tj T*",
+                    "ET"
+                )
+            )
+        ).affirm();
+    }
+
     @Test
     void multiLines() throws Exception {
         final Id id = new Serial();
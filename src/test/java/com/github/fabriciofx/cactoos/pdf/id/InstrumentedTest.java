@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.id;
+
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.content.Text;
+import com.github.fabriciofx.cactoos.pdf.resource.font.Helvetica;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsNumber;
+
+/**
+ * Test case for {@link Instrumented}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class InstrumentedTest {
+    @Test
+    void countIncrementsByCallerClass() {
+        final Instrumented id = new Instrumented(new Serial(), 1);
+        final Font font = new Helvetica(id, 12);
+        new Text(id, font, 0, 0, new TextOf("Hello"));
+        new Text(id, font, 0, 0, new TextOf("World"));
+        new Assertion<>(
+            "Must count the numbers taken by each class",
+            id.snapshot().toString(),
+            new IsEqual<>(
+                String.format(
+                    "{%s=2, %s=1}",
+                    Text.class.getName(),
+                    Helvetica.class.getName()
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void countEveryIncrementWhenSampling() {
+        final Instrumented id = new Instrumented(new Serial(), 16);
+        for (int idx = 0; idx < 100; ++idx) {
+            id.increment();
+        }
+        new Assertion<>(
+            "Must count every increment, even when sampling callers",
+            id.increments(),
+            new IsNumber(100)
+        ).affirm();
+    }
+
+    @Test
+    void keepNumbering() throws Exception {
+        final Instrumented id = new Instrumented(new Serial(), 4);
+        id.increment();
+        id.increment();
+        new Assertion<>(
+            "Must not change the numbers of the instrumented id",
+            id.value(),
+            new IsNumber(3)
+        ).affirm();
+    }
+}
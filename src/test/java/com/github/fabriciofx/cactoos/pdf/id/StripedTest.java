@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.id;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsNumber;
+
+/**
+ * Test case for {@link Striped}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class StripedTest {
+    @Test
+    void incrementInsideBlock() {
+        final Id id = new Striped(4);
+        id.increment();
+        id.increment();
+        new Assertion<>(
+            "Must increment inside the reserved block",
+            id.increment(),
+            new IsNumber(3)
+        ).affirm();
+    }
+
+    @Test
+    void reserveWholeBlock() throws Exception {
+        final Id id = new Striped(4);
+        id.increment();
+        new Assertion<>(
+            "Must have the value after the reserved block",
+            id.value(),
+            new IsNumber(5)
+        ).affirm();
+    }
+
+    @Test
+    void giveDistinctNumbersToManyThreads() throws Exception {
+        final Id id = new Striped(8);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final Set<Integer> numbers = new HashSet<>();
+        try {
+            final List<Future<int[]>> futures = new ArrayList<>(16);
+            for (int task = 0; task < 16; ++task) {
+                futures.add(
+                    executor.submit(
+                        () -> {
+                            final int[] given = new int[100];
+                            for (int idx = 0; idx < given.length; ++idx) {
+                                given[idx] = id.increment();
+                            }
+                            return given;
+                        }
+                    )
+                );
+            }
+            for (final Future<int[]> future : futures) {
+                for (final int number : future.get()) {
+                    numbers.add(number);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        new Assertion<>(
+            "Must give a distinct number for each increment",
+            numbers.size(),
+            new IsNumber(1600)
+        ).affirm();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.indirect;
+
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import com.github.fabriciofx.cactoos.pdf.type.Int;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsNumber;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link StickyIndirect}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class StickyIndirectTest {
+    @Test
+    void renderOnlyOnce() throws Exception {
+        final AtomicInteger renders = new AtomicInteger();
+        final StickyIndirect indirect = new StickyIndirect(
+            new Counted(
+                new DefaultIndirect(
+                    1,
+                    0,
+                    new Dictionary().add("Count", new Int(1))
+                ),
+                renders
+            )
+        );
+        indirect.asBytes();
+        indirect.asBytes();
+        indirect.length();
+        new Assertion<>(
+            "Must render an indirect only once",
+            renders.get(),
+            new IsNumber(1)
+        ).affirm();
+    }
+
+    @Test
+    void lengthWithoutRenderAgain() throws Exception {
+        final AtomicInteger renders = new AtomicInteger();
+        final StickyIndirect indirect = new StickyIndirect(
+            new Counted(
+                new DefaultIndirect(
+                    1,
+                    0,
+                    new Dictionary().add("Count", new Int(1))
+                ),
+                renders
+            )
+        );
+        new Assertion<>(
+            "Must have the length of rendered bytes",
+            indirect.length(),
+            new IsNumber(30)
+        ).affirm();
+        new Assertion<>(
+            "Must not render an indirect to know its length",
+            renders.get(),
+            new IsNumber(1)
+        ).affirm();
+    }
+
+    @Test
+    void keepIndirectBytes() throws Exception {
+        new Assertion<>(
+            "Must keep the indirect bytes",
+            new TextOf(
+                new StickyIndirect(
+                    new DefaultIndirect(
+                        1,
+                        0,
+                        new Dictionary().add("Count", new Int(1))
+                    )
+                ).asBytes()
+            ),
+            new IsText("1 0 obj\n<< /Count 1 >>\nendobj\n")
+        ).affirm();
+    }
+
+    @Test
+    void hashAsTheIndirect() throws Exception {
+        final Indirect indirect = new DefaultIndirect(
+            1,
+            0,
+            new Dictionary().add("Count", new Int(1))
+        );
+        new Assertion<>(
+            "Must have the same hash code as the memoized indirect",
+            new StickyIndirect(indirect).hashCode(),
+            new IsEqual<>(indirect.hashCode())
+        ).affirm();
+    }
+
+    @Test
+    void equalOnlyToStickyIndirects() throws Exception {
+        final Indirect indirect = new DefaultIndirect(
+            1,
+            0,
+            new Dictionary().add("Count", new Int(1))
+        );
+        new Assertion<>(
+            "Must not be equal to an indirect that is not sticky",
+            new StickyIndirect(indirect),
+            new IsNot<>(new IsEqual<>(indirect))
+        ).affirm();
+        new Assertion<>(
+            "Must be equal to a sticky indirect of the same indirect",
+            new StickyIndirect(indirect),
+            new IsEqual<>(new StickyIndirect(indirect))
+        ).affirm();
+    }
+
+    /**
+     * Indirect that counts how many times it is rendered.
+     *
+     * @since 0.0.1
+     */
+    private static final class Counted implements Indirect {
+        /**
+         * Indirect.
+         */
+        private final Indirect origin;
+
+        /**
+         * Renders counter.
+         */
+        private final AtomicInteger renders;
+
+        /**
+         * Ctor.
+         *
+         * @param indirect Indirect
+         * @param renders Renders counter
+         */
+        Counted(final Indirect indirect, final AtomicInteger renders) {
+            this.origin = indirect;
+            this.renders = renders;
+        }
+
+        @Override
+        public Reference reference() {
+            return this.origin.reference();
+        }
+
+        @Override
+        public Dictionary dictionary() {
+            return this.origin.dictionary();
+        }
+
+        @Override
+        public boolean hasStream() {
+            return this.origin.hasStream();
+        }
+
+        @Override
+        public byte[] asBytes() throws Exception {
+            this.renders.incrementAndGet();
+            return this.origin.asBytes();
+        }
+
+        @Override
+        public void writeTo(final Sink sink) throws Exception {
+            sink.append(this.asBytes());
+        }
+    }
+}
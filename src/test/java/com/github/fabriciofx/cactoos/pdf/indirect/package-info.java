@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Tests for Indirect.
+ *
+ * @since 0.0.1
+ */
+package com.github.fabriciofx.cactoos.pdf.indirect;
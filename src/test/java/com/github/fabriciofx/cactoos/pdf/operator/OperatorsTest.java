@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.operator;
+
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Operators}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class OperatorsTest {
+    @Test
+    void writeTextOperators() {
+        new Assertion<>(
+            "Must write text operators as a content stream",
+            new String(
+                new Operators(
+                    new Begin(),
+                    new Typeface("F1", 12),
+                    new Position(10, 20.5),
+                    new Leading(14.4),
+                    new Show("Hello"),
+                    new NextLine(),
+                    new WordSpacing(1.25),
+                    new Show("World"),
+                    new NextLine(),
+                    new End()
+                ).asStream(),
+                StandardCharsets.UTF_8
+            ),
+            new IsEqual<>(
+                String.join(
+                    "",
+                    "BT /F1 12 Tf 10.00 20.50 Td 14.40 TL\n",
+                    "(Hello) Tj T*\n",
+                    "1.250 Tw\n",
+                    "(World) Tj T*\n",
+                    "ET"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void writeImageOperators() {
+        new Assertion<>(
+            "Must write image operators as a content stream",
+            new String(
+                new Operators(
+                    new Save(),
+                    new Transform(300, 200, 50, 600),
+                    new Draw("I3"),
+                    new Restore()
+                ).asStream(),
+                StandardCharsets.UTF_8
+            ),
+            new IsEqual<>("q 300 0 0 200 50.00 600.00 cm /I3 Do Q")
+        ).affirm();
+    }
+
+    @Test
+    void escapeShownText() {
+        new Assertion<>(
+            "Must escape the shown text only when written",
+            new String(
+                new Operators(new Show("f(x) \\ (y)")).asStream(),
+                StandardCharsets.UTF_8
+            ),
+            new IsEqual<>("(f\\(x\\) \\\\ \\(y\\)) Tj")
+        ).affirm();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.pages;
+
+import com.github.fabriciofx.cactoos.pdf.Document;
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Page;
+import com.github.fabriciofx.cactoos.pdf.content.Contents;
+import com.github.fabriciofx.cactoos.pdf.content.Text;
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import com.github.fabriciofx.cactoos.pdf.page.DefaultPage;
+import com.github.fabriciofx.cactoos.pdf.resource.font.TimesRoman;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.Joined;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link BalancedPages}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class BalancedPagesTest {
+    @Test
+    void matchFlatPagesWhenFanoutIsEnough() throws Exception {
+        final Id id = new Serial();
+        final byte[] actual = new Document(
+            id,
+            new BalancedPages(
+                id,
+                8,
+                new DefaultPage(
+                    id,
+                    new Contents(
+                        new Text(
+                            id,
+                            new TimesRoman(id, 18),
+                            0,
+                            500,
+                            80,
+                            new TextOf("Hello World!")
+                        )
+                    )
+                )
+            )
+        ).asBytes();
+        new Assertion<>(
+            "Must match with hello world PDF document",
+            new BytesOf(new ResourceOf("document/hello-world.pdf")).asBytes(),
+            new IsEqual<>(actual)
+        ).affirm();
+    }
+
+    @Test
+    void buildBalancedTree() throws Exception {
+        final Id id = new Serial();
+        final Font font = new TimesRoman(id, 18);
+        final Page[] pages = new Page[10];
+        for (int idx = 0; idx < pages.length; ++idx) {
+            pages[idx] = new DefaultPage(
+                id,
+                new Contents(
+                    new Text(
+                        id,
+                        font,
+                        0,
+                        500,
+                        80,
+                        new FormattedText("Page %d", idx + 1)
+                    )
+                )
+            );
+        }
+        final List<Indirect> indirects = new ArrayList<>(0);
+        new BalancedPages(id, 3, pages).print(new ListedXref(indirects));
+        final List<String> nodes = new ArrayList<>(0);
+        for (final Indirect indirect : indirects) {
+            final String dictionary = indirect.dictionary().asString();
+            if (dictionary.startsWith("<< /Type /Pages")) {
+                nodes.add(dictionary);
+            }
+        }
+        new Assertion<>(
+            "Must build a balanced tree of pages nodes",
+            nodes,
+            new IsEqual<>(
+                new ListOf<>(
+                    new Joined(
+                        " ",
+                        "<< /Type /Pages /Kids [23 0 R 25 0 R 26 0 R]",
+                        "/Count 10 /MediaBox [0 0 595.28 841.89] >>"
+                    ).asString(),
+                    new Joined(
+                        " ",
+                        "<< /Type /Pages /Kids [24 0 R 7 0 R 9 0 R] /Count 4",
+                        "/Parent 22 0 R >>"
+                    ).asString(),
+                    new Joined(
+                        " ",
+                        "<< /Type /Pages /Kids [3 0 R 5 0 R] /Count 2",
+                        "/Parent 23 0 R >>"
+                    ).asString(),
+                    new Joined(
+                        " ",
+                        "<< /Type /Pages /Kids [11 0 R 13 0 R 15 0 R] /Count 3",
+                        "/Parent 22 0 R >>"
+                    ).asString(),
+                    new Joined(
+                        " ",
+                        "<< /Type /Pages /Kids [17 0 R 19 0 R 21 0 R] /Count 3",
+                        "/Parent 22 0 R >>"
+                    ).asString()
+                )
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.pages;
+
+import com.github.fabriciofx.cactoos.pdf.Content;
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Resource;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import com.github.fabriciofx.cactoos.pdf.content.Contents;
+import com.github.fabriciofx.cactoos.pdf.content.Text;
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import com.github.fabriciofx.cactoos.pdf.object.Catalog;
+import com.github.fabriciofx.cactoos.pdf.page.DefaultPage;
+import com.github.fabriciofx.cactoos.pdf.resource.font.TimesRoman;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.text.Joined;
+import org.cactoos.text.TextOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsNumber;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link DefaultPages}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class DefaultPagesTest {
+    @Test
+    void renderEachContentOnce() throws Exception {
+        final Id id = new Serial();
+        final AtomicInteger renders = new AtomicInteger();
+        new Catalog(
+            id,
+            new DefaultPages(
+                id,
+                new DefaultPage(
+                    id,
+                    new Contents(
+                        new Counted(
+                            new Text(
+                                id,
+                                new TimesRoman(id, 18),
+                                0,
+                                500,
+                                80,
+                                new TextOf("Hello World!")
+                            ),
+                            renders
+                        )
+                    )
+                )
+            )
+        ).print(new ListedXref(new ArrayList<>(0)));
+        new Assertion<>(
+            "Must render each content only once",
+            renders.get(),
+            new IsNumber(1)
+        ).affirm();
+    }
+
+    @Test
+    void referenceKidsWithoutRenderThem() throws Exception {
+        final Id id = new Serial();
+        final AtomicInteger renders = new AtomicInteger();
+        new Assertion<>(
+            "Must reference kids without render them",
+            new DefaultPages(
+                id,
+                new DefaultPage(
+                    id,
+                    new Contents(
+                        new Counted(
+                            new Text(
+                                id,
+                                new TimesRoman(id, 18),
+                                0,
+                                500,
+                                80,
+                                new TextOf("Hello World!")
+                            ),
+                            renders
+                        )
+                    )
+                )
+            ).indirect().dictionary(),
+            new IsText(
+                new Joined(
+                    " ",
+                    "<< /Type /Pages /Kids [3 0 R] /Count 1",
+                    "/MediaBox [0 0 595.28 841.89] >>"
+                )
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must not render any content",
+            renders.get(),
+            new IsNumber(0)
+        ).affirm();
+    }
+
+    /**
+     * Content that counts how many times it is rendered.
+     *
+     * @since 0.0.1
+     */
+    private static final class Counted implements Content {
+        /**
+         * Content.
+         */
+        private final Content origin;
+
+        /**
+         * Renders counter.
+         */
+        private final AtomicInteger renders;
+
+        /**
+         * Ctor.
+         *
+         * @param content Content
+         * @param renders Renders counter
+         */
+        Counted(final Content content, final AtomicInteger renders) {
+            this.origin = content;
+            this.renders = renders;
+        }
+
+        @Override
+        public byte[] asStream() throws Exception {
+            return this.origin.asStream();
+        }
+
+        @Override
+        public List<Resource> resource() {
+            return this.origin.resource();
+        }
+
+        @Override
+        public Reference reference() {
+            return this.origin.reference();
+        }
+
+        @Override
+        public Indirect indirect(final int... parent) throws Exception {
+            this.renders.incrementAndGet();
+            return this.origin.indirect(parent);
+        }
+
+        @Override
+        public void print(
+            final Xref xref,
+            final int... parent
+        ) throws Exception {
+            xref.add(this.indirect(parent));
+        }
+    }
+}
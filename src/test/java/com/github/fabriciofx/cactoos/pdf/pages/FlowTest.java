@@ -0,0 +1,219 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.pages;
+
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Page;
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import com.github.fabriciofx.cactoos.pdf.page.Format;
+import com.github.fabriciofx.cactoos.pdf.resource.font.TimesRoman;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.text.TextOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.TextHas;
+
+/**
+ * Test case for {@link Flow}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class FlowTest {
+    /**
+     * A shown line in a content stream.
+     */
+    private static final Pattern SHOW = Pattern.compile("\\(([^)]*)\\) Tj");
+
+    @Test
+    void fillEachPageBeforeTheNext() throws Exception {
+        final Id id = new Serial();
+        final List<Integer> sizes = new ArrayList<>(0);
+        for (
+            final Page page : new Flow(
+                id,
+                new TimesRoman(id, 12),
+                new TextOf(FlowTest.words(3000))
+            )
+        ) {
+            sizes.add(FlowTest.lines(page).size());
+        }
+        new Assertion<>(
+            "Must fill each page before the next one",
+            sizes.subList(0, sizes.size() - 1).stream()
+                .allMatch(size -> size == 54) && sizes.size() > 1,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void keepAllWordsInOrder() throws Exception {
+        final Id id = new Serial();
+        final List<String> lines = new ArrayList<>(0);
+        for (
+            final Page page : new Flow(
+                id,
+                new TimesRoman(id, 12),
+                Format.A4,
+                new StringReader(FlowTest.words(3000))
+            )
+        ) {
+            lines.addAll(FlowTest.lines(page));
+        }
+        new Assertion<>(
+            "Must keep all the words in order",
+            new TextOf(String.join(" ", lines)),
+            new IsText(FlowTest.words(3000))
+        ).affirm();
+    }
+
+    @Test
+    void printFlowedPages() throws Exception {
+        final Id id = new Serial();
+        final Font font = new TimesRoman(id, 12);
+        final List<Indirect> indirects = new ArrayList<>(0);
+        new LazyPages(
+            id,
+            new Flow(id, font, new TextOf(FlowTest.words(1500)))
+        ).print(new ListedXref(indirects));
+        new Assertion<>(
+            "Must print a page for each full page of text",
+            indirects.get(indirects.size() - 1).dictionary(),
+            new TextHas("/Count 3")
+        ).affirm();
+    }
+
+    @Test
+    void buildFirstPageBeforeReadingWholeText() throws Exception {
+        final Id id = new Serial();
+        final StringBuilder text = new StringBuilder();
+        for (int idx = 0; idx < 100; ++idx) {
+            text.append(FlowTest.words(300)).append("\n\n");
+        }
+        final Counted reader = new Counted(new StringReader(text.toString()));
+        new Flow(id, new TimesRoman(id, 12), Format.A4, reader)
+            .iterator()
+            .next();
+        new Assertion<>(
+            "Must build the first page after reading a few paragraphs",
+            reader.count() < text.length() / 4,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void startEachParagraphInNewLine() throws Exception {
+        final Id id = new Serial();
+        final List<String> lines = new ArrayList<>(0);
+        for (
+            final Page page : new Flow(
+                id,
+                new TimesRoman(id, 12),
+                Format.A4,
+                new StringReader("First paragraph.\n\n\nSecond\none.\n")
+            )
+        ) {
+            lines.addAll(FlowTest.lines(page));
+        }
+        new Assertion<>(
+            "Must start each paragraph in a new line",
+            new TextOf(String.join("|", lines)),
+            new IsText("First paragraph.|Second one.")
+        ).affirm();
+    }
+
+    /**
+     * Build a text of numbered words.
+     *
+     * @param count Amount of words
+     * @return The text
+     */
+    private static String words(final int count) {
+        final StringBuilder text = new StringBuilder(count * 8);
+        for (int idx = 0; idx < count; ++idx) {
+            if (idx > 0) {
+                text.append(' ');
+            }
+            text.append("word").append(idx);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Lines shown in a page.
+     *
+     * @param page Page
+     * @return The lines
+     * @throws Exception if fails
+     */
+    private static List<String> lines(final Page page) throws Exception {
+        final Matcher matcher = FlowTest.SHOW.matcher(
+            new String(
+                page.contents().get(0).asStream(),
+                StandardCharsets.ISO_8859_1
+            )
+        );
+        final List<String> lines = new ArrayList<>(0);
+        while (matcher.find()) {
+            lines.add(matcher.group(1));
+        }
+        return lines;
+    }
+
+    /**
+     * Reader that counts the characters read.
+     *
+     * @since 0.0.1
+     */
+    private static final class Counted extends FilterReader {
+        /**
+         * Characters read.
+         */
+        private int read;
+
+        /**
+         * Ctor.
+         *
+         * @param reader Reader
+         */
+        Counted(final Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        public int read(
+            final char[] buffer,
+            final int offset,
+            final int length
+        ) throws IOException {
+            final int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                this.read = this.read + count;
+            }
+            return count;
+        }
+
+        /**
+         * Characters read.
+         *
+         * @return The amount
+         */
+        int count() {
+            return this.read;
+        }
+    }
+}
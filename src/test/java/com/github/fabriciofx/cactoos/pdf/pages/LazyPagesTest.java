@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.pages;
+
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Page;
+import com.github.fabriciofx.cactoos.pdf.content.Contents;
+import com.github.fabriciofx.cactoos.pdf.content.Text;
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import com.github.fabriciofx.cactoos.pdf.page.DefaultPage;
+import com.github.fabriciofx.cactoos.pdf.resource.font.TimesRoman;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.Joined;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link LazyPages}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class LazyPagesTest {
+    @Test
+    void printPagesAfterKids() throws Exception {
+        final Id id = new Serial();
+        final Font font = new TimesRoman(id, 18);
+        final List<Indirect> indirects = new ArrayList<>(0);
+        new LazyPages(
+            id,
+            new Mapped<>(
+                num -> LazyPagesTest.page(id, font, num),
+                new IterableOf<>(1, 2, 3)
+            )
+        ).print(new ListedXref(indirects));
+        new Assertion<>(
+            "Must print pages after its kids",
+            indirects.get(indirects.size() - 1).dictionary(),
+            new IsText(
+                new Joined(
+                    " ",
+                    "<< /Type /Pages /Kids [4 0 R 7 0 R 10 0 R] /Count 3",
+                    "/MediaBox [0 0 595.28 841.89] >>"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void buildEachPageAfterPrintingPreviousOne() throws Exception {
+        final Id id = new Serial();
+        final Font font = new TimesRoman(id, 18);
+        final List<Indirect> indirects = new ArrayList<>(0);
+        final List<Integer> printed = new ArrayList<>(0);
+        new LazyPages(
+            id,
+            new Mapped<>(
+                num -> {
+                    printed.add(indirects.size());
+                    return LazyPagesTest.page(id, font, num);
+                },
+                new IterableOf<>(1, 2, 3)
+            )
+        ).print(new ListedXref(indirects));
+        new Assertion<>(
+            "Must build each page after printing the previous one",
+            printed,
+            new IsEqual<>(new ListOf<>(0, 4, 7))
+        ).affirm();
+    }
+
+    @Test
+    void referEveryKidOfManyPages() throws Exception {
+        final Id id = new Serial();
+        final Font font = new TimesRoman(id, 18);
+        final List<Indirect> indirects = new ArrayList<>(0);
+        new LazyPages(
+            id,
+            new Mapped<>(
+                num -> LazyPagesTest.page(id, font, num),
+                new IterableOf<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+            )
+        ).print(new ListedXref(indirects));
+        new Assertion<>(
+            "Must refer every kid, in the order they were printed",
+            indirects.get(indirects.size() - 1).dictionary(),
+            new IsText(
+                new Joined(
+                    " ",
+                    "<< /Type /Pages /Kids [4 0 R 7 0 R 10 0 R 13 0 R 16 0 R",
+                    "19 0 R 22 0 R 25 0 R 28 0 R 31 0 R] /Count 10",
+                    "/MediaBox [0 0 595.28 841.89] >>"
+                )
+            )
+        ).affirm();
+    }
+
+    /**
+     * Build a page.
+     *
+     * @param id Id
+     * @param font Font
+     * @param num Page number
+     * @return A page
+     */
+    private static Page page(final Id id, final Font font, final int num) {
+        return new DefaultPage(
+            id,
+            new Contents(
+                new Text(
+                    id,
+                    font,
+                    0,
+                    500,
+                    80,
+                    new FormattedText("Page %d", num)
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.pages;
+
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Xref;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import java.util.List;
+
+/**
+ * Cross-reference that keeps written indirects in a list, so tests can
+ * check what was printed.
+ *
+ * @since 0.0.1
+ */
+final class ListedXref implements Xref {
+    /**
+     * Written indirects.
+     */
+    private final List<Indirect> indirects;
+
+    /**
+     * Ctor.
+     *
+     * @param indirects Where written indirects are kept
+     */
+    ListedXref(final List<Indirect> indirects) {
+        this.indirects = indirects;
+    }
+
+    @Override
+    public void add(final Indirect indirect) {
+        this.indirects.add(indirect);
+    }
+
+    @Override
+    public boolean contains(final Indirect indirect) {
+        boolean found = false;
+        for (final Indirect written : this.indirects) {
+            if (written.reference().number() == indirect.reference().number()) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void finish(final Reference root, final Reference info) {
+        // Nothing to write after the indirects.
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.resource.font;
+
+import org.cactoos.io.InputOf;
+import org.cactoos.text.Joined;
+import org.cactoos.text.UncheckedText;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Afm}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class AfmTest {
+    /**
+     * A small AFM file in the Adobe standard encoding.
+     */
+    private static final String AFM = new UncheckedText(
+        new Joined(
+            "\n",
+            "StartFontMetrics 4.1",
+            "FontName Test",
+            "EncodingScheme AdobeStandardEncoding",
+            "StartCharMetrics 5",
+            "C 32 ; WX 250 ; N space ; B 0 0 0 0 ;",
+            "C 65 ; WX 722 ; N A ; B 15 0 706 674 ;",
+            "C 86 ; WX 722 ; N V ; B 16 -16 697 662 ;",
+            "C -1 ; WX 444 ; N eacute ; B 25 -10 424 678 ;",
+            "C 193 ; WX 333 ; N grave ; B 19 507 242 678 ;",
+            "EndCharMetrics",
+            "StartKernData",
+            "StartKernPairs 2",
+            "KPX A V -135",
+            "KPX V eacute -111",
+            "EndKernPairs",
+            "EndKernData",
+            "EndFontMetrics"
+        )
+    ).asString();
+
+    @Test
+    void placeGlyphsByName() throws Exception {
+        final Metrics metrics = new Afm(new InputOf(AfmTest.AFM)).value();
+        new Assertion<>(
+            "Must place the glyphs at their WinAnsiEncoding codes",
+            new int[] {
+                metrics.width('A'),
+                metrics.width('é'),
+                metrics.width('`'),
+                metrics.width('B'),
+            },
+            new IsEqual<>(new int[] {722, 444, 333, 250})
+        ).affirm();
+    }
+
+    @Test
+    void measureKernedText() throws Exception {
+        new Assertion<>(
+            "Must measure a text with its kerning pairs",
+            new Afm(new InputOf(AfmTest.AFM)).value()
+                .width("xAVéx", 1, 4),
+            new IsEqual<>(722 + 722 + 444 - 135 - 111)
+        ).affirm();
+    }
+
+    @Test
+    void measureCharactersAtTheirWinAnsiCodes() {
+        new Assertion<>(
+            "Must measure a character at its code in WinAnsiEncoding",
+            new int[] {
+                Face.HELVETICA.metrics().width('€'),
+                Face.HELVETICA.metrics().width('\u2019'),
+                Face.HELVETICA.metrics().width('\u0081'),
+            },
+            new IsEqual<>(new int[] {556, 222, 278})
+        ).affirm();
+    }
+
+    @Test
+    void measureEveryFaceWithItsOwnMetrics() {
+        new Assertion<>(
+            "Must measure a face with its own AFM file",
+            new int[] {
+                new StandardFont(1, 0, Face.TIMES_BOLD_ITALIC, 12).width('W'),
+                new StandardFont(2, 0, Face.HELVETICA_BOLD, 12).width('i'),
+                new TimesRoman(3, 0, 12).width('W'),
+            },
+            new IsEqual<>(new int[] {889, 278, 944})
+        ).affirm();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.resource.font;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Kerning}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class KerningTest {
+    @Test
+    void findEveryPair() {
+        final int count = 3000;
+        final char[] lefts = new char[count];
+        final char[] rights = new char[count];
+        final short[] amounts = new short[count];
+        final List<Integer> expected = new ArrayList<>(count);
+        for (int idx = 0; idx < count; ++idx) {
+            lefts[idx] = (char) ('A' + idx / 60);
+            rights[idx] = (char) ('a' + idx % 60);
+            amounts[idx] = (short) (-idx % 200 - 1);
+            expected.add((int) amounts[idx]);
+        }
+        final Kerning kerning = new Kerning(lefts, rights, amounts);
+        final List<Integer> found = new ArrayList<>(count);
+        for (int idx = 0; idx < count; ++idx) {
+            found.add(kerning.amount(lefts[idx], rights[idx]));
+        }
+        new Assertion<>(
+            "Must find the amount of every pair",
+            found,
+            new IsEqual<>(expected)
+        ).affirm();
+    }
+
+    @Test
+    void notKernOtherPairs() {
+        new Assertion<>(
+            "Must not kern a pair that is not in the table",
+            new Kerning(
+                new char[] {'A', 'T'},
+                new char[] {'V', 'o'},
+                new short[] {-80, -40}
+            ).amount('V', 'A'),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void keepFirstAmountOfRepeatedPair() {
+        new Assertion<>(
+            "Must keep the first amount of a pair given twice",
+            new Kerning(
+                new char[] {'A', 'A', 'T'},
+                new char[] {'V', 'V', 'o'},
+                new short[] {-80, -40, -20}
+            ).amount('A', 'V'),
+            new IsEqual<>(-80)
+        ).affirm();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.resource.font;
+
+import com.github.fabriciofx.cactoos.pdf.text.Wrapped;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link WidthCache}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class WidthCacheTest {
+    @Test
+    void measureEachWordOnce() {
+        final WidthCache cache = new WidthCache(Face.HELVETICA.metrics());
+        final String text = "Total Amount due Total Total";
+        final String joined = text.replace(" ", "");
+        int width = 0;
+        for (final String word : text.split(" ")) {
+            width = width + cache.width(word, 0, word.length());
+        }
+        new Assertion<>(
+            "Must measure each word once and find it afterwards",
+            new long[] {width, cache.hits(), cache.misses()},
+            new IsEqual<>(
+                new long[] {
+                    new Helvetica(1, 0, 12).width(joined, 0, joined.length()),
+                    2,
+                    3,
+                }
+            )
+        ).affirm();
+    }
+
+    @Test
+    void findWordByPartOfText() {
+        final WidthCache cache = new WidthCache(Face.COURIER.metrics());
+        new Assertion<>(
+            "Must find a word measured as a part of another text",
+            new long[] {
+                cache.width("SKU-000123", 0, 3),
+                cache.width("SKU", 0, 3),
+                cache.width("a SKU b", 2, 5),
+                cache.width("a SKI b", 2, 5),
+                cache.hits(),
+                cache.misses(),
+            },
+            new IsEqual<>(new long[] {1800, 1800, 1800, 1800, 2, 2})
+        ).affirm();
+    }
+
+    @Test
+    void findRepeatedWordsOfWrappedText() {
+        final WidthCache cache = new WidthCache(Face.HELVETICA.metrics());
+        new ListOf<>(
+            new Wrapped(
+                "Total Tax Total Tax Total Amount Total",
+                cache,
+                20_000
+            )
+        );
+        new Assertion<>(
+            "Must find the words which a wrapped text repeats",
+            new long[] {cache.hits(), cache.misses()},
+            new IsEqual<>(new long[] {4, 4})
+        ).affirm();
+    }
+
+    @Test
+    void shareWordsByFontsOfFace() {
+        final WidthCache cache = Face.TIMES_BOLD.widths();
+        final long hits = cache.hits();
+        final long misses = cache.misses();
+        final String word = "SKU-004567-WHT";
+        new StandardFont(1, 0, Face.TIMES_BOLD, 12)
+            .width(word, 0, word.length());
+        new StandardFont(2, 0, Face.TIMES_BOLD, 20)
+            .width(word, 0, word.length());
+        new Assertion<>(
+            "Must find a word measured by another font of the same face",
+            new long[] {cache.hits() - hits, cache.misses() - misses},
+            new IsEqual<>(new long[] {1, 1})
+        ).affirm();
+    }
+
+    @Test
+    void dropWordUsedLeastRecently() {
+        final WidthCache cache = new WidthCache(
+            Face.HELVETICA.metrics(),
+            300
+        );
+        for (final String word : new String[] {"a", "e", "a", "o", "a", "e"}) {
+            cache.width(word, 0, 1);
+        }
+        new Assertion<>(
+            "Must drop the word used least recently to fit the budget",
+            new long[] {cache.hits(), cache.misses(), cache.bytes()},
+            new IsEqual<>(new long[] {2, 4, 228})
+        ).affirm();
+    }
+
+    @Test
+    void keepWordsWithinBudget() {
+        final WidthCache cache = new WidthCache(
+            Face.HELVETICA.metrics(),
+            150
+        );
+        final String word = "Description of the item sold";
+        cache.width(word, 0, word.length());
+        cache.width(word, 0, word.length());
+        new Assertion<>(
+            "Must not keep a word which takes more bytes than the budget",
+            new long[] {cache.hits(), cache.misses(), cache.bytes()},
+            new IsEqual<>(new long[] {0, 2, 0})
+        ).affirm();
+    }
+}
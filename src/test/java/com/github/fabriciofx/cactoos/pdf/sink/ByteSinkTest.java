@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.sink;
+
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import com.github.fabriciofx.cactoos.pdf.type.Int;
+import com.github.fabriciofx.cactoos.pdf.type.Literal;
+import com.github.fabriciofx.cactoos.pdf.type.Stream;
+import java.io.ByteArrayOutputStream;
+import java.util.Locale;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.text.TextOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsNumber;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link ByteSink}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class ByteSinkTest {
+    @Test
+    void appendNumbers() {
+        new Assertion<>(
+            "Must append numbers in decimal notation",
+            new TextOf(
+                new ByteSink()
+                    .append(0)
+                    .append((byte) ' ')
+                    .append(-42)
+                    .append((byte) ' ')
+                    .append(Long.MIN_VALUE)
+                    .toByteArray()
+            ),
+            new IsText("0 -42 -9223372036854775808")
+        ).affirm();
+    }
+
+    @Test
+    void appendRealsAsFormatterDoes() {
+        final double[] numbers = {
+            0, -0.001, 0.005, 1.005, 2.675, 16, 28.35, 72.0 / 25.4,
+            595.2755905511812, -841.8897637795276, 1.0e-7, 123_456_789.125,
+        };
+        for (final double number : numbers) {
+            new Assertion<>(
+                "Must append a real rounded as \"%.2f\" does",
+                new TextOf(new ByteSink().append(number, 2).toByteArray()),
+                new IsText(String.format(Locale.ENGLISH, "%.2f", number))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void appendRealWithoutFraction() {
+        new Assertion<>(
+            "Must append a real without the decimal point",
+            new TextOf(new ByteSink().append(12.5, 0).toByteArray()),
+            new IsText("13")
+        ).affirm();
+    }
+
+    @Test
+    void appendUnicodeText() {
+        new Assertion<>(
+            "Must append a text encoded as UTF-8",
+            new TextOf(
+                new ByteSink(1).append("Fabrício Cabral").toByteArray()
+            ),
+            new IsText("Fabrício Cabral")
+        ).affirm();
+    }
+
+    @Test
+    void growBeyondCapacity() {
+        final Sink sink = new ByteSink(16);
+        for (int idx = 0; idx < 1000; ++idx) {
+            sink.append("0123456789");
+        }
+        new Assertion<>(
+            "Must grow to keep all appended bytes",
+            sink.size(),
+            new IsNumber(10_000)
+        ).affirm();
+    }
+
+    @Test
+    void truncate() {
+        new Assertion<>(
+            "Must discard the bytes after a size",
+            new TextOf(
+                new ByteSink().append("abcdef").truncate(3).append("x")
+                    .toByteArray()
+            ),
+            new IsText("abcx")
+        ).affirm();
+    }
+
+    @Test
+    void copyPartOfTheBytes() {
+        new Assertion<>(
+            "Must copy only the bytes between two indexes",
+            new TextOf(new ByteSink().append("1 0 obj\n").toByteArray(2, 7)),
+            new IsText("0 obj")
+        ).affirm();
+    }
+
+    @Test
+    void writeDictionaryAsItsBytes() throws Exception {
+        final Dictionary dictionary = new Dictionary()
+            .add("Length", new Int(5))
+            .add("Title", new Literal("Hello"))
+            .with(new Stream(new BytesOf("World")));
+        final Sink sink = new ByteSink();
+        dictionary.writeTo(sink);
+        new Assertion<>(
+            "Must write the same bytes of a dictionary",
+            new TextOf(sink.toByteArray()),
+            new IsText(new TextOf(dictionary.asBytes()))
+        ).affirm();
+    }
+
+    @Test
+    void writeIntoOutputStream() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ByteSink().append("%PDF-1.3").writeTo(output);
+        new Assertion<>(
+            "Must write the bytes into an output stream",
+            new TextOf(output.toByteArray()),
+            new IsText("%PDF-1.3")
+        ).affirm();
+    }
+}
@@ -4,6 +4,10 @@
  */
 package com.github.fabriciofx.cactoos.pdf.text;
 
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.sink.ByteSink;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.IsText;
@@ -23,4 +27,25 @@ final class EscapedTest {
             new IsText("\\\\, \\(, \\), \\r")
         ).affirm();
     }
+
+    @Test
+    void escapeControlCharacters() throws Exception {
+        new Assertion<>(
+            "Must escape control characters",
+            new Escaped("a\nb\tc\bd\fe\u0001f\u007f"),
+            new IsText("a\\nb\\tc\\bd\\fe\\001f\\177")
+        ).affirm();
+    }
+
+    @Test
+    void writeEscapedIntoSink() throws Exception {
+        final String text = "Olá (mundo) \\ \r ção";
+        final Sink sink = new ByteSink();
+        new Escaped(text).writeTo(sink);
+        new Assertion<>(
+            "Must write into a sink the same escaped text",
+            new String(sink.toByteArray(), StandardCharsets.UTF_8),
+            new IsEqual<>(new Escaped(text).asString())
+        ).affirm();
+    }
 }
@@ -64,6 +64,18 @@ final class MultilineTest {
         ).affirm();
     }
 
+    @Test
+    void giveLinesAsSpansOfText() {
+        final Span line = (Span) new Multiline("Hello World!", 5)
+            .iterator()
+            .next();
+        new Assertion<>(
+            "Must give a line as a span of the text, without a copy",
+            new int[] {line.start(), line.end()},
+            new IsEqual<>(new int[] {0, 5})
+        ).affirm();
+    }
+
     @Test
     void multilineTextWithLimitBiggerThanLength() {
         final String msg = "cactoos framework";
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link TotalFit}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class TotalFitTest {
+    @Test
+    void breakParagraphAsEvenlyAsPossible() {
+        new Assertion<>(
+            "Must shrink lines instead of leaving a loose one",
+            TotalFitTest.lines(
+                new TotalFit(
+                    "the cat dogs be a cat be of cat quick",
+                    chr -> 1,
+                    14
+                )
+            ),
+            new IsEqual<>(
+                new ListOf<>("the cat dogs be", "a cat be of cat", "quick")
+            )
+        ).affirm();
+    }
+
+    @Test
+    void keepLongWordInItsOwnLine() {
+        new Assertion<>(
+            "Must put a word wider than the line in a line of its own",
+            TotalFitTest.lines(
+                new TotalFit("a b extraordinary c d", chr -> 1, 5)
+            ),
+            new IsEqual<>(new ListOf<>("a b", "extraordinary", "c d"))
+        ).affirm();
+    }
+
+    @Test
+    void giveEmptyLineForBlankText() {
+        new Assertion<>(
+            "Must give a single empty line for a text without words",
+            TotalFitTest.lines(new TotalFit(" \n ", chr -> 1, 5)),
+            new IsEqual<>(new ListOf<>(""))
+        ).affirm();
+    }
+
+    /**
+     * Lines as strings.
+     *
+     * @param spans Spans of the lines
+     * @return The lines
+     */
+    private static List<String> lines(final Iterable<Span> spans) {
+        final List<String> lines = new ArrayList<>(0);
+        for (final Span span : spans) {
+            lines.add(span.asString());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.text;
+
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import com.github.fabriciofx.cactoos.pdf.resource.font.Courier;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Wrapped}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class WrappedTest {
+    @Test
+    void wrapByFontWidth() {
+        final List<String> lines = new ArrayList<>(0);
+        for (
+            final Span span : new Wrapped(
+                "The quick brown fox jumps over the lazy dog",
+                new Courier(new Serial(), 10),
+                96
+            )
+        ) {
+            lines.add(span.asString());
+        }
+        new Assertion<>(
+            "Must wrap lines at 16 Courier characters of 6 points",
+            lines,
+            new IsEqual<>(
+                new ListOf<>(
+                    "The quick brown",
+                    "fox jumps over",
+                    "the lazy dog"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void giveLinesAsOffsets() {
+        final String text = "  lorem   ipsum\n\tdolor  sit amet ";
+        final List<String> spans = new ArrayList<>(0);
+        for (final Span span : new Wrapped(text, 11)) {
+            spans.add(
+                String.join(
+                    ":",
+                    Integer.toString(span.start()),
+                    Integer.toString(span.end()),
+                    span.asString()
+                )
+            );
+        }
+        new Assertion<>(
+            "Must give the offsets of lines and collapse their whitespace",
+            spans,
+            new IsEqual<>(
+                new ListOf<>(
+                    "2:15:lorem ipsum",
+                    "17:27:dolor sit",
+                    "28:32:amet"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void keepLongWordInItsOwnLine() {
+        final List<String> lines = new ArrayList<>(0);
+        for (final Span span : new Wrapped("a extraordinary b", 5)) {
+            lines.add(span.asString());
+        }
+        new Assertion<>(
+            "Must put a word wider than the line in a line of its own",
+            lines,
+            new IsEqual<>(new ListOf<>("a", "extraordinary", "b"))
+        ).affirm();
+    }
+}
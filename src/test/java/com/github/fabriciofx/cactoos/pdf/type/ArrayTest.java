@@ -5,6 +5,7 @@
 package com.github.fabriciofx.cactoos.pdf.type;
 
 import org.cactoos.text.Joined;
+import org.cactoos.text.TextOf;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.IsNumber;
@@ -63,6 +64,22 @@ final class ArrayTest {
         ).affirm();
     }
 
+    @Test
+    void arrayAsBytes() throws Exception {
+        new Assertion<>(
+            "Must write the array bytes as its text",
+            new TextOf(
+                new Array(
+                    new Int(549),
+                    new Real(3.14),
+                    new Name("SomeName"),
+                    new Array(new Int(945))
+                ).asBytes()
+            ),
+            new IsText("[549 3.14 /SomeName [945]]")
+        ).affirm();
+    }
+
     @Test
     void addElementToArray() {
         new Assertion<>(
@@ -93,4 +110,16 @@ final class ArrayTest {
             new IsNumber(549)
         ).affirm();
     }
+
+    @Test
+    void keepArraysUnchangedWhenAdding() {
+        final Array first = new Array(new Int(1));
+        final Array second = first.add(new Int(2));
+        final Array third = first.add(new Int(3));
+        new Assertion<>(
+            "Must keep arrays unchanged when adding values",
+            new Joined(new TextOf(" | "), first, second, third),
+            new IsText("[1] | [1 2] | [1 3]")
+        ).affirm();
+    }
 }
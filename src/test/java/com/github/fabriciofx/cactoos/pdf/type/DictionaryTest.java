@@ -11,7 +11,9 @@ import org.cactoos.Bytes;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.InputOf;
 import org.cactoos.io.ResourceOf;
+import org.cactoos.text.FormattedText;
 import org.cactoos.text.Joined;
+import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -233,4 +235,56 @@ final class DictionaryTest {
             new IsNumber(36)
         ).affirm();
     }
+
+    @Test
+    void keepDictionariesUnchangedWhenAdding() {
+        final Dictionary first = new Dictionary().add("A", new Int(1));
+        final Dictionary second = first.add("B", new Int(2));
+        final Dictionary third = first.add("C", new Int(3));
+        new Assertion<>(
+            "Must keep dictionaries unchanged when adding entries",
+            new Joined(new TextOf(" | "), first, second, third),
+            new IsText("<< /A 1 >> | << /A 1 /B 2 >> | << /A 1 /C 3 >>")
+        ).affirm();
+    }
+
+    @Test
+    void keepDictionariesUnchangedWhenMerging() throws Exception {
+        final Dictionary fonts = new Dictionary().add("F1", new Text("1 0 R"));
+        final Dictionary resources = new Dictionary().add("Font", fonts);
+        final Dictionary merged = resources.merge(
+            new Dictionary().add(
+                "Font",
+                new Dictionary().add("F2", new Text("2 0 R"))
+            )
+        );
+        new Assertion<>(
+            "Must keep dictionaries unchanged when merging",
+            new Joined(new TextOf(" | "), resources, merged),
+            new IsText(
+                new Joined(
+                    " ",
+                    "<< /Font << /F1 1 0 R >> >> |",
+                    "<< /Font << /F1 1 0 R /F2 2 0 R >> >>"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void addTenThousandEntries() throws Exception {
+        Dictionary dictionary = new Dictionary();
+        for (int idx = 0; idx < 10_000; ++idx) {
+            dictionary = dictionary.add(
+                new FormattedText("F%d", idx).asString(),
+                new Int(idx)
+            );
+        }
+        final Int value = dictionary.get("F9999");
+        new Assertion<>(
+            "Must find the last of ten thousand entries",
+            value.value(),
+            new IsNumber(9999)
+        ).affirm();
+    }
 }
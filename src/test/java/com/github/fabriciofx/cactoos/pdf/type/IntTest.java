@@ -4,9 +4,11 @@
  */
 package com.github.fabriciofx.cactoos.pdf.type;
 
+import org.cactoos.text.TextOf;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.IsNumber;
+import org.llorllale.cactoos.matchers.IsText;
 
 /**
  * Test case for {@link Int}.
@@ -23,4 +25,13 @@ final class IntTest {
             new IsNumber(123)
         ).affirm();
     }
+
+    @Test
+    void asBytes() throws Exception {
+        new Assertion<>(
+            "Must write an integer as its text",
+            new TextOf(new Int(-549).asBytes()),
+            new IsText("-549")
+        ).affirm();
+    }
 }
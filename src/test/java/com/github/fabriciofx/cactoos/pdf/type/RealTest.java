@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.type;
+
+import org.cactoos.text.TextOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link Real}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class RealTest {
+    @Test
+    void trimTrailingZeros() {
+        new Assertion<>(
+            "Must represent a real without trailing zeros",
+            new Real(595.0),
+            new IsText("595")
+        ).affirm();
+    }
+
+    @Test
+    void avoidExponentNotation() {
+        new Assertion<>(
+            "Must represent a small real without exponent notation",
+            new Real(0.00012),
+            new IsText("0.00012")
+        ).affirm();
+    }
+
+    @Test
+    void roundToFiveDigits() {
+        new Assertion<>(
+            "Must round a real to five fractional digits",
+            new Real(-2.0 / 3.0),
+            new IsText("-0.66667")
+        ).affirm();
+    }
+
+    @Test
+    void asBytes() throws Exception {
+        new Assertion<>(
+            "Must write a real as its text",
+            new TextOf(new Real(841.89).asBytes()),
+            new IsText("841.89")
+        ).affirm();
+    }
+}
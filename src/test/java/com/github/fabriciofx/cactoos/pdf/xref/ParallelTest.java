@@ -0,0 +1,173 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Document;
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Page;
+import com.github.fabriciofx.cactoos.pdf.Structure;
+import com.github.fabriciofx.cactoos.pdf.content.Contents;
+import com.github.fabriciofx.cactoos.pdf.content.FlateEncode;
+import com.github.fabriciofx.cactoos.pdf.content.Image;
+import com.github.fabriciofx.cactoos.pdf.content.Text;
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import com.github.fabriciofx.cactoos.pdf.image.format.Jpeg;
+import com.github.fabriciofx.cactoos.pdf.image.format.Png;
+import com.github.fabriciofx.cactoos.pdf.page.DefaultPage;
+import com.github.fabriciofx.cactoos.pdf.pages.DefaultPages;
+import com.github.fabriciofx.cactoos.pdf.resource.font.Courier;
+import com.github.fabriciofx.cactoos.pdf.resource.font.Helvetica;
+import com.github.fabriciofx.cactoos.pdf.resource.font.Symbol;
+import com.github.fabriciofx.cactoos.pdf.resource.font.TimesRoman;
+import com.github.fabriciofx.cactoos.pdf.resource.font.ZapfDingbats;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Parallel}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class ParallelTest {
+    @Test
+    void matchSerialDocumentWithFontsAndImages() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Id id = new Serial();
+            final Font times = new TimesRoman(id, 16);
+            final Font helvetica = new Helvetica(id, 16);
+            final Font courier = new Courier(id, 16);
+            final Font symbol = new Symbol(id, 16);
+            final Font zapf = new ZapfDingbats(id, 16);
+            final Image cat = new Image(
+                id,
+                new Jpeg(
+                    id,
+                    new BytesOf(new ResourceOf("image/sample-1.jpg"))
+                ),
+                0,
+                100
+            );
+            final Image logo = new Image(
+                id,
+                new Png(
+                    id,
+                    new BytesOf(new ResourceOf("image/logo.png"))
+                ),
+                28,
+                766
+            );
+            final org.cactoos.Text text = new TextOf(
+                "The quick brown fox jumps over the lazy dog"
+            );
+            final byte[] actual = new Document(
+                id,
+                new Parallel(new Classic(), executor, 2),
+                new DefaultPages(
+                    id,
+                    new DefaultPage(
+                        id,
+                        new Contents(
+                            cat,
+                            logo,
+                            new Text(id, times, 10, 100, 80, text),
+                            new Text(id, helvetica, 10, 200, 80, text),
+                            new Text(id, courier, 10, 300, 80, text),
+                            new Text(id, symbol, 10, 400, 80, text),
+                            new Text(id, zapf, 10, 500, 80, text)
+                        )
+                    )
+                )
+            ).asBytes();
+            new Assertion<>(
+                "Must match with serially written PDF document",
+                new BytesOf(
+                    new ResourceOf("document/fonts-images.pdf")
+                ).asBytes(),
+                new IsEqual<>(actual)
+            ).affirm();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void matchSerialCompressedDocument() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            new Assertion<>(
+                "Must match with serially written compressed PDF document",
+                ParallelTest.pages(
+                    new Parallel(new Compressed(10), executor, 8),
+                    50
+                ),
+                new IsEqual<>(ParallelTest.pages(new Compressed(10), 50))
+            ).affirm();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Build a document with several compressed pages.
+     *
+     * @param structure File structure
+     * @param amount Amount of pages
+     * @return The document bytes
+     * @throws Exception if fails
+     */
+    private static byte[] pages(
+        final Structure structure,
+        final int amount
+    ) throws Exception {
+        final Id id = new Serial();
+        final Font font = new Helvetica(id, 12);
+        final Page[] pages = new Page[amount];
+        for (int idx = 0; idx < amount; ++idx) {
+            pages[idx] = new DefaultPage(
+                id,
+                new Contents(
+                    new FlateEncode(
+                        new Image(
+                            id,
+                            new Png(
+                                id,
+                                new BytesOf(new ResourceOf("image/logo.png"))
+                            ),
+                            28,
+                            766
+                        )
+                    ),
+                    new FlateEncode(
+                        new Text(
+                            id,
+                            font,
+                            10,
+                            500,
+                            80,
+                            new TextOf(String.format("Page %d", idx + 1))
+                        )
+                    )
+                )
+            );
+        }
+        return new Document(
+            id,
+            structure,
+            new DefaultPages(id, pages)
+        ).asBytes();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Document;
+import com.github.fabriciofx.cactoos.pdf.Font;
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Structure;
+import com.github.fabriciofx.cactoos.pdf.content.Contents;
+import com.github.fabriciofx.cactoos.pdf.content.Text;
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import com.github.fabriciofx.cactoos.pdf.page.DefaultPage;
+import com.github.fabriciofx.cactoos.pdf.pages.DefaultPages;
+import com.github.fabriciofx.cactoos.pdf.resource.font.Helvetica;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.TextHas;
+
+/**
+ * Test case for {@link Renumbered}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class RenumberedTest {
+    @Test
+    void writeSameDocumentWhenIdSkipsNumbers() throws Exception {
+        new Assertion<>(
+            "Must write the same document when the id skips numbers",
+            RenumberedTest.document(new Renumbered(new Classic()), 7),
+            new IsEqual<>(
+                RenumberedTest.document(new Renumbered(new Classic()), 0)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void writeCompactCrossReference() throws Exception {
+        new Assertion<>(
+            "Must write a cross-reference without holes",
+            new TextOf(
+                RenumberedTest.document(new Renumbered(new Classic()), 7)
+            ),
+            new TextHas("xref\n0 8\n0000000000 65535 f\n")
+        ).affirm();
+    }
+
+    @Test
+    void writeSameCompressedDocumentWhenIdSkipsNumbers() throws Exception {
+        new Assertion<>(
+            "Must write the same compressed document when the id skips",
+            RenumberedTest.document(new Renumbered(new Compressed()), 7),
+            new IsEqual<>(
+                RenumberedTest.document(new Renumbered(new Compressed()), 0)
+            )
+        ).affirm();
+    }
+
+    /**
+     * Build a document whose id skips numbers after creating its font.
+     *
+     * @param structure File structure
+     * @param skip Amount of numbers skipped
+     * @return The document bytes
+     * @throws Exception if fails
+     */
+    private static byte[] document(
+        final Structure structure,
+        final int skip
+    ) throws Exception {
+        final Id id = new Serial();
+        final Font font = new Helvetica(id, 12);
+        for (int idx = 0; idx < skip; ++idx) {
+            id.increment();
+        }
+        return new Document(
+            id,
+            structure,
+            new DefaultPages(
+                id,
+                new DefaultPage(
+                    id,
+                    new Contents(
+                        new Text(id, font, 0, 500, new TextOf("Hello World!"))
+                    )
+                )
+            )
+        ).asBytes();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Document;
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.content.Compression;
+import com.github.fabriciofx.cactoos.pdf.content.Contents;
+import com.github.fabriciofx.cactoos.pdf.content.Text;
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.page.DefaultPage;
+import com.github.fabriciofx.cactoos.pdf.pages.DefaultPages;
+import com.github.fabriciofx.cactoos.pdf.resource.font.TimesRoman;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import com.github.fabriciofx.cactoos.pdf.type.Int;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.Deflater;
+import org.cactoos.text.TextOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.StartsWith;
+import org.llorllale.cactoos.matchers.TextHas;
+
+/**
+ * Test case for {@link XrefStream}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class XrefStreamTest {
+    @Test
+    void useVersionWithCrossReferenceStreams() throws Exception {
+        new Assertion<>(
+            "Must use PDF version 1.5",
+            new TextOf(XrefStreamTest.helloWorld()),
+            new StartsWith("%PDF-1.5\n")
+        ).affirm();
+    }
+
+    @Test
+    void packObjectsWithoutStream() throws Exception {
+        new Assertion<>(
+            "Must pack objects without stream into an object stream",
+            new TextOf(XrefStreamTest.helloWorld()),
+            new TextHas(
+                "8 0 obj\n<< /Type /ObjStm /N 6 /First 32 /Filter /FlateDecode"
+            )
+        ).affirm();
+    }
+
+    @Test
+    void writeObjectsWithStream() throws Exception {
+        new Assertion<>(
+            "Must write objects with stream as usual",
+            new TextOf(XrefStreamTest.helloWorld()),
+            new TextHas("2 0 obj\n<< /Length 60 >>\nstream\nBT /F1 18 Tf")
+        ).affirm();
+    }
+
+    @Test
+    void writeCrossReferenceStream() throws Exception {
+        new Assertion<>(
+            "Must write a cross-reference stream",
+            new TextOf(XrefStreamTest.helloWorld()),
+            new TextHas(
+                "9 0 obj\n<< /Type /XRef /Size 10 /W [1 2 2] /Root 6 0 R /Info 5 0 R"
+            )
+        ).affirm();
+    }
+
+    @Test
+    void writeObjectStreamAsSoonAsItIsFull() throws Exception {
+        final Id id = new Serial();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final XrefStream xref = new XrefStream(id, output, 0, 2);
+        for (int idx = 0; idx < 3; ++idx) {
+            xref.add(
+                new DefaultIndirect(
+                    id.increment(),
+                    0,
+                    new Dictionary().add("Count", new Int(idx))
+                )
+            );
+        }
+        new Assertion<>(
+            "Must write a full object stream before finishing",
+            new TextOf(output.toByteArray()),
+            new StartsWith(
+                "3 0 obj\n<< /Type /ObjStm /N 2 /First 9 /Filter /FlateDecode"
+            )
+        ).affirm();
+    }
+
+    @Test
+    void compressWithTheGivenCompression() throws Exception {
+        final Id id = new Serial();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final XrefStream xref = new XrefStream(
+            id,
+            output,
+            0,
+            2,
+            new Compression(Deflater.NO_COMPRESSION)
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            xref.add(
+                new DefaultIndirect(
+                    id.increment(),
+                    0,
+                    new Dictionary().add("Count", new Int(idx))
+                )
+            );
+        }
+        new Assertion<>(
+            "Must pack objects with the given compression",
+            new TextOf(output.toByteArray()),
+            new TextHas("<< /Count 0 >>\n<< /Count 1 >>")
+        ).affirm();
+    }
+
+    /**
+     * Hello World document using cross-reference streams.
+     *
+     * @return The document bytes
+     * @throws Exception if fails
+     */
+    private static byte[] helloWorld() throws Exception {
+        final Id id = new Serial();
+        return new Document(
+            id,
+            new Compressed(),
+            new DefaultPages(
+                id,
+                new DefaultPage(
+                    id,
+                    new Contents(
+                        new Text(
+                            id,
+                            new TimesRoman(id, 18),
+                            0,
+                            500,
+                            80,
+                            new TextOf("Hello World!")
+                        )
+                    )
+                )
+            )
+        ).asBytes();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2023-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.pdf.xref;
+
+import com.github.fabriciofx.cactoos.pdf.Id;
+import com.github.fabriciofx.cactoos.pdf.Indirect;
+import com.github.fabriciofx.cactoos.pdf.Sink;
+import com.github.fabriciofx.cactoos.pdf.id.Serial;
+import com.github.fabriciofx.cactoos.pdf.indirect.DefaultIndirect;
+import com.github.fabriciofx.cactoos.pdf.text.Reference;
+import com.github.fabriciofx.cactoos.pdf.type.Dictionary;
+import com.github.fabriciofx.cactoos.pdf.type.Int;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.text.Joined;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsNumber;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link XrefTable}.
+ *
+ * @since 0.0.1
+ */
+@SuppressWarnings({
+    "PMD.UnitTestShouldIncludeAssert",
+    "PMD.UnnecessaryLocalRule"
+})
+final class XrefTableTest {
+    @Test
+    void recordOffsetOfWrittenObjects() throws Exception {
+        final Id id = new Serial();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final XrefTable xref = new XrefTable(id, output, 0);
+        xref.add(
+            new DefaultIndirect(
+                id.increment(),
+                0,
+                new Dictionary().add("Count", new Int(1))
+            )
+        );
+        xref.add(
+            new DefaultIndirect(
+                id.increment(),
+                0,
+                new Dictionary().add("Count", new Int(2))
+            )
+        );
+        xref.finish(new Reference(3, 0), new Reference(4, 0));
+        new Assertion<>(
+            "Must build a cross-reference table with written objects",
+            new TextOf(output.toByteArray()),
+            new IsText(
+                new Joined(
+                    "\n",
+                    "1 0 obj",
+                    "<< /Count 1 >>",
+                    "endobj",
+                    "2 0 obj",
+                    "<< /Count 2 >>",
+                    "endobj",
+                    "xref",
+                    "0 3",
+                    "0000000000 65535 f",
+                    "0000000000 00000 n",
+                    "0000000030 00000 n",
+                    "trailer",
+                    "<< /Size 3 /Root 3 0 R /Info 4 0 R >>",
+                    "startxref",
+                    "60",
+                    ""
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void markObjectNotWrittenAsFree() throws Exception {
+        final Id id = new Serial();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final XrefTable xref = new XrefTable(id, output, 0);
+        id.increment();
+        xref.add(
+            new DefaultIndirect(
+                id.increment(),
+                0,
+                new Dictionary().add("Count", new Int(1))
+            )
+        );
+        xref.finish(new Reference(2, 0), new Reference(2, 0));
+        new Assertion<>(
+            "Must mark an object not written as free",
+            new TextOf(output.toByteArray()),
+            new IsText(
+                new Joined(
+                    "\n",
+                    "2 0 obj",
+                    "<< /Count 1 >>",
+                    "endobj",
+                    "xref",
+                    "0 3",
+                    "0000000001 65535 f",
+                    "0000000000 65535 f",
+                    "0000000000 00000 n",
+                    "trailer",
+                    "<< /Size 3 /Root 2 0 R /Info 2 0 R >>",
+                    "startxref",
+                    "30",
+                    ""
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void trackWrittenObjects() throws Exception {
+        final Id id = new Serial();
+        final XrefTable xref = new XrefTable(
+            id,
+            OutputStream.nullOutputStream(),
+            0
+        );
+        final Indirect indirect = new DefaultIndirect(
+            id.increment(),
+            0,
+            new Dictionary().add("Count", new Int(1))
+        );
+        xref.add(indirect);
+        new Assertion<>(
+            "Must contain an already written object",
+            xref.contains(indirect),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void renderEachObjectOnceFromHundredToHundredThousandObjects()
+        throws Exception {
+        for (int size = 100; size <= 100_000; size = size * 10) {
+            final Id id = new Serial();
+            final AtomicInteger renders = new AtomicInteger();
+            final XrefTable xref = new XrefTable(
+                id,
+                OutputStream.nullOutputStream(),
+                0
+            );
+            for (int idx = 0; idx < size; ++idx) {
+                xref.add(new Counted(id.increment(), renders));
+            }
+            xref.finish(new Reference(1, 0), new Reference(1, 0));
+            new Assertion<>(
+                "Must render each object only once",
+                (double) renders.get() / size,
+                new IsNumber(1)
+            ).affirm();
+        }
+    }
+
+    /**
+     * Indirect that counts how many times it is rendered.
+     *
+     * @since 0.0.1
+     */
+    private static final class Counted implements Indirect {
+        /**
+         * Object number.
+         */
+        private final int number;
+
+        /**
+         * Renders counter.
+         */
+        private final AtomicInteger renders;
+
+        /**
+         * Ctor.
+         *
+         * @param number Object number
+         * @param renders Renders counter
+         */
+        Counted(final int number, final AtomicInteger renders) {
+            this.number = number;
+            this.renders = renders;
+        }
+
+        @Override
+        public Reference reference() {
+            return new Reference(this.number, 0);
+        }
+
+        @Override
+        public Dictionary dictionary() {
+            return new Dictionary();
+        }
+
+        @Override
+        public boolean hasStream() {
+            return false;
+        }
+
+        @Override
+        public byte[] asBytes() {
+            this.renders.incrementAndGet();
+            return new byte[32];
+        }
+
+        @Override
+        public void writeTo(final Sink sink) {
+            sink.append(this.asBytes());
+        }
+    }
+}